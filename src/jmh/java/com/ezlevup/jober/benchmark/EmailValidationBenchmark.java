@@ -0,0 +1,43 @@
+package com.ezlevup.jober.benchmark;
+
+import com.ezlevup.jober.service.UserService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 회원가입 이메일 형식 검사를 측정합니다.
+ * {@code UserService.isValidEmail} (미리 컴파일한 패턴)과 호출마다 정규식을 컴파일하는 {@code String.matches} 를 비교합니다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmailValidationBenchmark {
+
+    private static final String EMAIL_REGEX = "^[A-Za-z0-9+_.-]+@(.+)$";
+
+    @Param({"user.name+tag@example.com", "invalid-email-without-at-sign"})
+    private String email;
+
+    @Benchmark
+    public boolean precompiledPattern() {
+        return UserService.isValidEmail(email);
+    }
+
+    @Benchmark
+    public boolean stringMatches() {
+        return email.matches(EMAIL_REGEX);
+    }
+}
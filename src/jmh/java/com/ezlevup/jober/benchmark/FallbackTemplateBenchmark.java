@@ -0,0 +1,58 @@
+package com.ezlevup.jober.benchmark;
+
+import com.ezlevup.jober.dto.TemplateGenerateRequest;
+import com.ezlevup.jober.entity.Template;
+import com.ezlevup.jober.service.FallbackTemplateEngine;
+import com.ezlevup.jober.service.TemplateService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AI 서버 장애 시 폴백 템플릿을 고르는 경로({@code TemplateService.createFallbackTemplate})를 측정합니다.
+ * 키워드가 일치하는 프롬프트와 기본 템플릿으로 떨어지는 프롬프트를 비교합니다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FallbackTemplateBenchmark {
+
+    @Param({"학부모님께 다음 주 과제 안내 템플릿 생성", "매장 휴무일을 고객에게 알리는 일반 공지"})
+    private String prompt;
+
+    private TemplateService templateService;
+    private TemplateGenerateRequest request;
+
+    @Setup
+    public void setUp() throws IOException {
+        FallbackTemplateEngine fallbackTemplateEngine = new FallbackTemplateEngine(
+            new ObjectMapper(), new DefaultResourceLoader(), "classpath:fallback/templates.json");
+        // 폴백 경로는 AI 클라이언트·캐시·저장소를 사용하지 않습니다.
+        templateService = new TemplateService(null, null, null, null, fallbackTemplateEngine, new SimpleMeterRegistry());
+
+        request = new TemplateGenerateRequest();
+        request.setPrompt(prompt);
+    }
+
+    @Benchmark
+    public Template createFallbackTemplate() {
+        return templateService.createFallbackTemplate(request);
+    }
+}
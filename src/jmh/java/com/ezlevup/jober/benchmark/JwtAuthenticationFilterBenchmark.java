@@ -0,0 +1,84 @@
+package com.ezlevup.jober.benchmark;
+
+import com.ezlevup.jober.filter.JwtAuthenticationFilter;
+import com.ezlevup.jober.security.JwtKeyRing;
+import com.ezlevup.jober.service.TokenRevocationService;
+import com.ezlevup.jober.util.JwtUtil;
+import com.ezlevup.jober.util.VerifiedTokenCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증이 필요한 요청 하나가 {@link JwtAuthenticationFilter} 를 통과하는 전체 경로를 측정합니다.
+ * 토큰 검증 캐시, 폐기 목록 확인, 인증 주체 생성까지 포함하며 DB 는 사용하지 않습니다 (클레임 기반 주체).
+ * verifiedTokenCache=false 는 요청마다 서명을 검증하는 경우입니다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = "mySecretKeyForJWTTokenGenerationThatShouldBeAtLeast32Characters";
+    private static final String PATH = "/api/templates/my";
+    private static final FilterChain CHAIN = (request, response) -> { };
+
+    @Param({"true", "false"})
+    private boolean verifiedTokenCache;
+
+    private JwtAuthenticationFilter filter;
+    private MockHttpServletResponse response;
+    private String authorization;
+
+    @Setup
+    public void setUp() {
+        JwtUtil jwtUtil = new JwtUtil(new JwtKeyRing(SECRET, "", true));
+        // Spring 밖에서 만들므로 @Value 필드는 테스트와 같은 방식으로 채웁니다.
+        ReflectionTestUtils.setField(jwtUtil, "expiration", 900_000L);
+        jwtUtil.init();
+        authorization = "Bearer " + jwtUtil.generateToken("bench@example.com", 1L, "벤치사용자", List.of());
+
+        // 폐기 목록은 메모리 조회만 하므로 저장소 없이 만듭니다.
+        TokenRevocationService tokenRevocationService =
+            new TokenRevocationService(null, Duration.ofHours(1), 100_000, 0.001, Duration.ofMinutes(1));
+        filter = new JwtAuthenticationFilter(
+            new VerifiedTokenCache(jwtUtil, verifiedTokenCache, DataSize.ofMegabytes(16)),
+            tokenRevocationService, null, new SimpleMeterRegistry(), new String[0]);
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public Object authenticate() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", PATH);
+        request.setServletPath(PATH);
+        request.addHeader("Authorization", authorization);
+        try {
+            filter.doFilter(request, response, CHAIN);
+            return request.getAttribute("userId");
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.ezlevup.jober.benchmark;
+
+import com.ezlevup.jober.util.CompiledTemplate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 수신자 한 명분 변수 치환 처리량을 측정합니다.
+ * 목표: renderCompiled 가 단일 스레드에서 초당 100만 회 이상 (정규식 치환 대비 10배 이상).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TemplateRendererBenchmark {
+
+    private static final Pattern PLACEHOLDER = Pattern.compile("#\\{([^}]+)}");
+
+    private static final String CONTENT = "안녕하세요, #{고객명}님.\n#{수업명} 일정이 변경되었습니다.\n\n"
+        + "📅 변경된 일정: #{새_일정}\n\n궁금한 사항은 #{연락처}로 문의해주세요.";
+
+    private CompiledTemplate compiled;
+    private Map<String, String> variables;
+
+    @Setup
+    public void setUp() {
+        compiled = CompiledTemplate.compile(CONTENT);
+        variables = Map.of(
+            "고객명", "홍길동",
+            "수업명", "수학 심화반",
+            "새_일정", "2024년 3월 5일 오후 4시",
+            "연락처", "010-1234-5678"
+        );
+    }
+
+    @Benchmark
+    public String renderCompiled() {
+        return compiled.render(variables);
+    }
+
+    @Benchmark
+    public String renderRegex() {
+        Matcher matcher = PLACEHOLDER.matcher(CONTENT);
+        StringBuilder rendered = new StringBuilder();
+        while (matcher.find()) {
+            String value = variables.get(matcher.group(1));
+            matcher.appendReplacement(rendered, Matcher.quoteReplacement(value != null ? value : matcher.group()));
+        }
+        matcher.appendTail(rendered);
+        return rendered.toString();
+    }
+
+    @Benchmark
+    public String renderStringReplace() {
+        String rendered = CONTENT;
+        for (Map.Entry<String, String> entry : variables.entrySet()) {
+            rendered = rendered.replace("#{" + entry.getKey() + "}", entry.getValue());
+        }
+        return rendered;
+    }
+}
@@ -0,0 +1,83 @@
+package com.ezlevup.jober.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 시나리오 하나의 지연 시간 분포와 결과 수를 모읍니다.
+ * 지연 시간은 요청이 "보내졌어야 할" 시각부터 재므로, 서버나 부하 생성기가 밀려 늦게 보낸 시간도 포함됩니다.
+ * {@link Recorder} 는 여러 스레드에서 잠금 없이 기록할 수 있고, 구간 단위로 분포를 꺼낼 수 있습니다.
+ */
+final class EndpointStats {
+
+    // 마이크로초 단위, 최대 5분까지 유효 숫자 3자리로 기록합니다.
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+
+    private final Scenario scenario;
+    private final Recorder recorder = new Recorder(HIGHEST_TRACKABLE_MICROS, 3);
+    private final LongAdder responses = new LongAdder();
+    private final LongAdder errorResponses = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    EndpointStats(Scenario scenario) {
+        this.scenario = scenario;
+    }
+
+    Scenario scenario() {
+        return scenario;
+    }
+
+    /** 응답을 받은 요청. 2xx 가 아니면 오류 응답으로도 셉니다. */
+    void recordResponse(long latencyNanos, int status) {
+        recorder.recordValue(Math.min(HIGHEST_TRACKABLE_MICROS, TimeUnit.NANOSECONDS.toMicros(latencyNanos)));
+        responses.increment();
+        if (status < 200 || status >= 300) {
+            errorResponses.increment();
+        }
+    }
+
+    /** 연결 실패·타임아웃 등 응답을 받지 못한 요청 */
+    void recordFailure() {
+        failures.increment();
+    }
+
+    /** 동시 요청 한도에 걸려 보내지 못한 요청 (부하 생성기 쪽 포화) */
+    void recordDropped() {
+        dropped.increment();
+    }
+
+    /** 워밍업 구간의 기록을 버립니다. */
+    void reset() {
+        recorder.reset();
+        responses.reset();
+        errorResponses.reset();
+        failures.reset();
+        dropped.reset();
+    }
+
+    Snapshot snapshot() {
+        return new Snapshot(scenario, recorder.getIntervalHistogram(),
+            responses.sum(), errorResponses.sum(), failures.sum(), dropped.sum());
+    }
+
+    record Snapshot(Scenario scenario, Histogram histogram,
+                    long responses, long errorResponses, long failures, long dropped) {
+
+        long requests() {
+            return responses + failures + dropped;
+        }
+
+        long errors() {
+            return errorResponses + failures + dropped;
+        }
+
+        double errorRate() {
+            long requests = requests();
+            return requests == 0 ? 0 : (double) errors() / requests;
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package com.ezlevup.jober.loadtest;
+
+import com.ezlevup.jober.support.AiBackendSimulator;
+import com.ezlevup.jober.support.AiBackendSimulator.Behavior;
+import com.ezlevup.jober.support.AiBackendSimulator.LatencyDistribution;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 실행 중인 애플리케이션에 signup / login / generate / my-templates 시나리오로 부하를 주고 결과를 보고합니다.
+ * 외부 네트워크 없이 로컬 서버만 대상으로 하며, 임계치를 넘으면 종료 코드 1 로 끝납니다.
+ *
+ * <p>인자 ({@code --이름=값}, 뒤에 온 값이 우선):
+ * <ul>
+ *   <li>base-url (http://localhost:8080), output (target/loadtest), thresholds (임계치 파일, 없으면 검사 생략)</li>
+ *   <li>warmup (PT10S), duration (PT60S), request-timeout (PT30S), max-in-flight (10000)</li>
+ *   <li>users (50) - 미리 가입시켜 login / generate / my-templates 에 돌려 쓰는 사용자 수</li>
+ *   <li>rate.signup (2), rate.login (10), rate.generate (20), rate.my-templates (50) - 초당 요청 수, 0 이면 제외</li>
+ *   <li>generate.unique-ratio (0.1) - 캐시에 없는 새 프롬프트로 보낼 generate 요청 비율</li>
+ *   <li>ai-simulator.port (0) - 0 보다 크면 이 포트에 {@link AiBackendSimulator} 를 띄웁니다.
+ *       애플리케이션의 ai.client.url 이 이 포트를 가리켜야 합니다.</li>
+ *   <li>ai-simulator.latency-median (PT0.8S), ai-simulator.latency-p99 (PT4S), ai-simulator.seed (42),
+ *       ai-simulator.error-rate (0.01), ai-simulator.timeout-rate (0), ai-simulator.truncated-rate (0.01)</li>
+ * </ul>
+ */
+public final class LoadTestMain {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final String PASSWORD = "loadtest-password";
+    private static final List<String> PROMPTS = List.of(
+        "학부모님께 과제 안내 템플릿 생성",
+        "수업 일정 변경 안내 메시지",
+        "신규 회원 환영 메시지",
+        "이벤트 참여 감사 안내"
+    );
+
+    private record LoadTestUser(String email, String token) {
+    }
+
+    private LoadTestMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        String baseUrl = options.getOrDefault("base-url", "http://localhost:8080");
+        Path output = Path.of(options.getOrDefault("output", "target/loadtest"));
+        Duration warmup = Duration.parse(options.getOrDefault("warmup", "PT10S"));
+        Duration duration = Duration.parse(options.getOrDefault("duration", "PT60S"));
+        Duration requestTimeout = Duration.parse(options.getOrDefault("request-timeout", "PT30S"));
+        int maxInFlight = Integer.parseInt(options.getOrDefault("max-in-flight", "10000"));
+        int userCount = Integer.parseInt(options.getOrDefault("users", "50"));
+        double uniqueRatio = Double.parseDouble(options.getOrDefault("generate.unique-ratio", "0.1"));
+        String runId = Long.toString(System.currentTimeMillis(), 36);
+
+        HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+        AiBackendSimulator simulator = startSimulator(options);
+        awaitHealthy(client, baseUrl, Duration.ofMinutes(2));
+        List<LoadTestUser> users = createUsers(client, baseUrl, runId, userCount);
+        System.out.printf("Created %d load test users (run %s)%n", users.size(), runId);
+
+        List<Scenario> scenarios = new ArrayList<>();
+        addScenario(scenarios, options, "signup", 2, sequence -> post(baseUrl + "/api/signup", null, json(Map.of(
+            "email", "lt-" + runId + "-s" + sequence + "@example.com",
+            "password", PASSWORD,
+            "nickname", "lt" + runId + "s" + sequence))));
+        addScenario(scenarios, options, "login", 10, sequence -> {
+            LoadTestUser user = users.get((int) (sequence % users.size()));
+            return post(baseUrl + "/api/login", null, json(Map.of("email", user.email(), "password", PASSWORD)));
+        });
+        long uniqueEvery = uniqueRatio > 0 ? Math.max(1, Math.round(1 / uniqueRatio)) : Long.MAX_VALUE;
+        addScenario(scenarios, options, "generate", 20, sequence -> {
+            LoadTestUser user = users.get((int) (sequence % users.size()));
+            String prompt = PROMPTS.get((int) (sequence % PROMPTS.size()));
+            if (sequence % uniqueEvery == 0) {
+                prompt = prompt + " " + runId + "-" + sequence;
+            }
+            return post(baseUrl + "/api/templates/generate", user.token(), json(Map.of(
+                "prompt", prompt, "targetCustomer", "학부모", "purpose", "안내", "businessType", "교육")));
+        });
+        addScenario(scenarios, options, "my-templates", 50, sequence -> {
+            LoadTestUser user = users.get((int) (sequence % users.size()));
+            return HttpRequest.newBuilder(URI.create(baseUrl + "/api/templates/my?size=20"))
+                .header("Authorization", "Bearer " + user.token())
+                .GET()
+                .build();
+        });
+
+        System.out.printf("Running %s for %s after %s warmup against %s%n",
+            scenarios.stream().map(s -> s.name() + "@" + s.ratePerSecond() + "/s").toList(), duration, warmup, baseUrl);
+        List<EndpointStats.Snapshot> results =
+            new OpenModelRunner(client, requestTimeout, maxInFlight).run(scenarios, warmup, duration);
+        if (simulator != null) {
+            System.out.printf("AI backend simulator served %d requests%n", simulator.requestCount());
+            simulator.close();
+        }
+
+        LoadTestReport report = new LoadTestReport(results, duration);
+        List<String> violations = options.containsKey("thresholds")
+            ? report.checkThresholds(loadThresholds(Path.of(options.get("thresholds"))))
+            : List.of();
+        report.print(System.out);
+        report.write(output, baseUrl, violations);
+        System.out.println("Report written to " + output.toAbsolutePath());
+
+        if (!violations.isEmpty()) {
+            System.err.println("Threshold violations:");
+            violations.forEach(violation -> System.err.println("  " + violation));
+            System.exit(1);
+        }
+    }
+
+    private static void addScenario(List<Scenario> scenarios, Map<String, String> options,
+                                    String name, double defaultRate, Scenario.RequestFactory requests) {
+        double rate = Double.parseDouble(options.getOrDefault("rate." + name, String.valueOf(defaultRate)));
+        if (rate > 0) {
+            scenarios.add(new Scenario(name, rate, requests));
+        }
+    }
+
+    private static AiBackendSimulator startSimulator(Map<String, String> options) throws IOException {
+        int port = Integer.parseInt(options.getOrDefault("ai-simulator.port", "0"));
+        if (port <= 0) {
+            return null;
+        }
+        Behavior behavior = Behavior.healthy()
+            .withSeed(Long.parseLong(options.getOrDefault("ai-simulator.seed", "42")))
+            .withLatency(LatencyDistribution.logNormal(
+                Duration.parse(options.getOrDefault("ai-simulator.latency-median", "PT0.8S")),
+                Duration.parse(options.getOrDefault("ai-simulator.latency-p99", "PT4S"))))
+            .withFaults(
+                Double.parseDouble(options.getOrDefault("ai-simulator.error-rate", "0.01")),
+                Double.parseDouble(options.getOrDefault("ai-simulator.timeout-rate", "0")),
+                Double.parseDouble(options.getOrDefault("ai-simulator.truncated-rate", "0.01")));
+        AiBackendSimulator simulator = AiBackendSimulator.start(port, behavior);
+        System.out.printf("Started AI backend simulator at %s%n", simulator.url());
+        return simulator;
+    }
+
+    private static void awaitHealthy(HttpClient client, String baseUrl, Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        HttpRequest health = HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/health"))
+            .timeout(Duration.ofSeconds(5)).GET().build();
+        while (true) {
+            try {
+                if (client.send(health, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // 아직 기동 중입니다.
+            }
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("Application at " + baseUrl + " did not become healthy within " + timeout);
+            }
+            Thread.sleep(500);
+        }
+    }
+
+    // 사용자마다 가입 응답의 액세스 토큰을 받아 둡니다. BCrypt 비용이 크므로 동시에 가입시킵니다.
+    private static List<LoadTestUser> createUsers(HttpClient client, String baseUrl, String runId, int count) throws Exception {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<LoadTestUser>> futures = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                String email = "lt-" + runId + "-u" + i + "@example.com";
+                String nickname = "lt" + runId + "u" + i;
+                futures.add(executor.submit(() -> {
+                    HttpResponse<String> response = client.send(
+                        post(baseUrl + "/api/signup", null, json(Map.of("email", email, "password", PASSWORD, "nickname", nickname))),
+                        HttpResponse.BodyHandlers.ofString());
+                    JsonNode token = OBJECT_MAPPER.readTree(response.body()).path("data").path("token");
+                    if (response.statusCode() != 200 || !token.isTextual()) {
+                        throw new IllegalStateException("Signup failed for " + email + ": " + response.statusCode() + " " + response.body());
+                    }
+                    return new LoadTestUser(email, token.asText());
+                }));
+            }
+
+            List<LoadTestUser> users = new ArrayList<>();
+            for (Future<LoadTestUser> future : futures) {
+                users.add(future.get());
+            }
+            return users;
+        }
+    }
+
+    private static HttpRequest post(String url, String token, String body) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(body));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder.build();
+    }
+
+    private static String json(Map<String, String> fields) {
+        try {
+            return OBJECT_MAPPER.writeValueAsString(fields);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Properties loadThresholds(Path file) throws IOException {
+        Properties thresholds = new Properties();
+        try (InputStream input = Files.newInputStream(file)) {
+            thresholds.load(input);
+        }
+        return thresholds;
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return options;
+    }
+}
@@ -0,0 +1,128 @@
+package com.ezlevup.jober.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * 부하 테스트 결과를 출력하고 임계치와 비교합니다.
+ * 시나리오별 HdrHistogram 백분위 분포(<시나리오>.hgrm, 밀리초)와 전체 요약(summary.json)을 output 디렉터리에 씁니다.
+ *
+ * <p>임계치 파일 형식: {@code <시나리오>.<지표>=<값>}. 지표는 p50-ms, p95-ms, p99-ms, max-ms, error-rate (상한),
+ * min-throughput (하한, 초당 요청 수) 입니다.
+ */
+final class LoadTestReport {
+
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    private final List<EndpointStats.Snapshot> results;
+    private final Duration duration;
+
+    LoadTestReport(List<EndpointStats.Snapshot> results, Duration duration) {
+        this.results = results;
+        this.duration = duration;
+    }
+
+    void print(PrintStream out) {
+        out.printf("%-14s %10s %10s %8s %10s %10s %10s %10s%n",
+            "scenario", "requests", "req/s", "errors", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)");
+        for (EndpointStats.Snapshot result : results) {
+            Histogram histogram = result.histogram();
+            out.printf("%-14s %10d %10.1f %8d %10.1f %10.1f %10.1f %10.1f%n",
+                result.scenario().name(), result.requests(), throughput(result), result.errors(),
+                millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(95)),
+                millis(histogram.getValueAtPercentile(99)), millis(histogram.getMaxValue()));
+        }
+    }
+
+    void write(Path outputDirectory, String baseUrl, List<String> violations) throws IOException {
+        Files.createDirectories(outputDirectory);
+
+        Map<String, Object> scenarios = new LinkedHashMap<>();
+        for (EndpointStats.Snapshot result : results) {
+            try (PrintStream hgrm = new PrintStream(
+                    Files.newOutputStream(outputDirectory.resolve(result.scenario().name() + ".hgrm")))) {
+                result.histogram().outputPercentileDistribution(hgrm, MICROS_PER_MILLI);
+            }
+
+            Histogram histogram = result.histogram();
+            Map<String, Object> latency = new LinkedHashMap<>();
+            latency.put("p50", millis(histogram.getValueAtPercentile(50)));
+            latency.put("p95", millis(histogram.getValueAtPercentile(95)));
+            latency.put("p99", millis(histogram.getValueAtPercentile(99)));
+            latency.put("max", millis(histogram.getMaxValue()));
+            latency.put("mean", histogram.getMean() / MICROS_PER_MILLI);
+
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("targetRate", result.scenario().ratePerSecond());
+            summary.put("requests", result.requests());
+            summary.put("throughput", throughput(result));
+            summary.put("errors", result.errors());
+            summary.put("errorResponses", result.errorResponses());
+            summary.put("failures", result.failures());
+            summary.put("dropped", result.dropped());
+            summary.put("errorRate", result.errorRate());
+            summary.put("latencyMs", latency);
+            scenarios.put(result.scenario().name(), summary);
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("finishedAt", Instant.now().toString());
+        report.put("baseUrl", baseUrl);
+        report.put("durationSeconds", duration.toSeconds());
+        report.put("scenarios", scenarios);
+        report.put("thresholdViolations", violations);
+
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+            .writeValue(outputDirectory.resolve("summary.json").toFile(), report);
+    }
+
+    /**
+     * 임계치를 넘은 항목을 반환합니다. 결과에 없는 시나리오의 임계치는 무시합니다.
+     */
+    List<String> checkThresholds(Properties thresholds) {
+        List<String> violations = new ArrayList<>();
+        for (EndpointStats.Snapshot result : results) {
+            String name = result.scenario().name();
+            Histogram histogram = result.histogram();
+            checkMax(violations, thresholds, name, "p50-ms", millis(histogram.getValueAtPercentile(50)));
+            checkMax(violations, thresholds, name, "p95-ms", millis(histogram.getValueAtPercentile(95)));
+            checkMax(violations, thresholds, name, "p99-ms", millis(histogram.getValueAtPercentile(99)));
+            checkMax(violations, thresholds, name, "max-ms", millis(histogram.getMaxValue()));
+            checkMax(violations, thresholds, name, "error-rate", result.errorRate());
+
+            String minThroughput = thresholds.getProperty(name + ".min-throughput");
+            if (minThroughput != null && throughput(result) < Double.parseDouble(minThroughput)) {
+                violations.add(String.format("%s.min-throughput: %.1f < %s", name, throughput(result), minThroughput));
+            }
+        }
+        return violations;
+    }
+
+    private static void checkMax(List<String> violations, Properties thresholds, String scenario, String metric, double actual) {
+        String limit = thresholds.getProperty(scenario + "." + metric);
+        if (limit != null && actual > Double.parseDouble(limit)) {
+            violations.add(String.format("%s.%s: %.3f > %s", scenario, metric, actual, limit));
+        }
+    }
+
+    private double throughput(EndpointStats.Snapshot result) {
+        return result.responses() / (duration.toNanos() / 1e9);
+    }
+
+    private static double millis(long micros) {
+        return micros / MICROS_PER_MILLI;
+    }
+}
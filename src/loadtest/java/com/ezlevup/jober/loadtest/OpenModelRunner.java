@@ -0,0 +1,106 @@
+package com.ezlevup.jober.loadtest;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 시나리오마다 정해진 도착률로 요청을 보냅니다 (open model).
+ * 도착 시각은 시작 시각 + i × 간격으로 미리 정해지며, 요청마다 가상 스레드를 하나씩 사용하므로
+ * 서버 응답이 느려져도 보내는 속도는 줄지 않습니다. 지연 시간은 예정된 도착 시각부터 잽니다.
+ */
+final class OpenModelRunner {
+
+    private final HttpClient client;
+    private final Duration requestTimeout;
+    private final Semaphore inFlight;
+
+    OpenModelRunner(HttpClient client, Duration requestTimeout, int maxInFlight) {
+        this.client = client;
+        this.requestTimeout = requestTimeout;
+        this.inFlight = new Semaphore(maxInFlight);
+    }
+
+    /**
+     * 워밍업 후 측정 구간 동안 모든 시나리오를 동시에 실행하고, 측정 구간의 결과만 반환합니다.
+     */
+    List<EndpointStats.Snapshot> run(List<Scenario> scenarios, Duration warmup, Duration duration) throws InterruptedException {
+        List<EndpointStats> stats = scenarios.stream().map(EndpointStats::new).toList();
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+
+        try (ExecutorService requests = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Thread> schedulers = new ArrayList<>();
+            for (EndpointStats endpoint : stats) {
+                schedulers.add(Thread.ofVirtual().name("arrivals-" + endpoint.scenario().name())
+                    .start(() -> schedule(endpoint, start, end, requests)));
+            }
+
+            parkUntil(measureFrom);
+            stats.forEach(EndpointStats::reset);
+
+            for (Thread scheduler : schedulers) {
+                scheduler.join();
+            }
+            // 측정 구간에 보낸 요청의 응답까지 기다립니다 (executor close).
+        }
+
+        return stats.stream().map(EndpointStats::snapshot).toList();
+    }
+
+    private void schedule(EndpointStats endpoint, long start, long end, ExecutorService requests) {
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / endpoint.scenario().ratePerSecond());
+        for (long sequence = 0; ; sequence++) {
+            long intended = start + sequence * intervalNanos;
+            if (intended >= end) {
+                return;
+            }
+            parkUntil(intended);
+
+            if (!inFlight.tryAcquire()) {
+                endpoint.recordDropped();
+                continue;
+            }
+            long current = sequence;
+            requests.execute(() -> {
+                try {
+                    send(endpoint, endpoint.scenario().requests().create(current), intended);
+                } finally {
+                    inFlight.release();
+                }
+            });
+        }
+    }
+
+    private void send(EndpointStats endpoint, HttpRequest request, long intended) {
+        try {
+            HttpResponse<Void> response = client.send(
+                HttpRequest.newBuilder(request, (name, value) -> true).timeout(requestTimeout).build(),
+                HttpResponse.BodyHandlers.discarding());
+            endpoint.recordResponse(System.nanoTime() - intended, response.statusCode());
+        } catch (IOException e) {
+            endpoint.recordFailure();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            endpoint.recordFailure();
+        }
+    }
+
+    // parkNanos 는 일찍 깨어날 수 있으므로 목표 시각이 될 때까지 반복합니다.
+    private static void parkUntil(long deadlineNanos) {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.ezlevup.jober.loadtest;
+
+import java.net.http.HttpRequest;
+
+/**
+ * 초당 ratePerSecond 개의 요청을 일정한 간격으로 보내는 시나리오입니다.
+ * 요청은 이전 요청의 응답과 관계없이 예정된 시각에 보냅니다 (open model).
+ */
+record Scenario(String name, double ratePerSecond, RequestFactory requests) {
+
+    @FunctionalInterface
+    interface RequestFactory {
+        /** sequence 번째 요청을 만듭니다 (0 부터 시작). */
+        HttpRequest create(long sequence);
+    }
+}
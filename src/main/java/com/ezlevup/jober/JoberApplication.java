@@ -2,8 +2,10 @@ package com.ezlevup.jober;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class JoberApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,76 @@
+package com.ezlevup.jober.config;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+
+/**
+ * AI 서버 호출용 HTTP 클라이언트 설정입니다.
+ * 커넥션 풀로 keep-alive 연결을 재사용하고, 연결/읽기 타임아웃으로 응답 없는 AI 서버가 요청 스레드를 붙잡지 못하게 합니다.
+ */
+@Configuration
+public class AiClientConfig {
+
+    @Value("${ai.client.max-connections:100}")
+    private int maxConnections;
+
+    @Value("${ai.client.max-connections-per-route:50}")
+    private int maxConnectionsPerRoute;
+
+    @Value("${ai.client.connect-timeout:PT2S}")
+    private Duration connectTimeout;
+
+    @Value("${ai.client.connection-request-timeout:PT1S}")
+    private Duration connectionRequestTimeout;
+
+    @Value("${ai.client.read-timeout:PT30S}")
+    private Duration readTimeout;
+
+    @Value("${ai.client.connection-ttl:PT5M}")
+    private Duration connectionTtl;
+
+    @Value("${ai.client.idle-eviction:PT30S}")
+    private Duration idleEviction;
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient aiHttpClient() {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnectionsPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeout.toMillis()))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeout.toMillis()))
+                        .setTimeToLive(TimeValue.ofMilliseconds(connectionTtl.toMillis()))
+                        .build())
+                .build();
+
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.ofMilliseconds(connectionRequestTimeout.toMillis()))
+                .setResponseTimeout(Timeout.ofMilliseconds(readTimeout.toMillis()))
+                .build();
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(idleEviction.toMillis()))
+                .build();
+    }
+
+    @Bean
+    public RestTemplate aiRestTemplate(CloseableHttpClient aiHttpClient) {
+        return new RestTemplate(new HttpComponentsClientHttpRequestFactory(aiHttpClient));
+    }
+}
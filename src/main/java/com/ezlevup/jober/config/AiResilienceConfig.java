@@ -0,0 +1,85 @@
+package com.ezlevup.jober.config;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * AI 서버 호출을 보호하는 서킷 브레이커와 벌크헤드 설정입니다.
+ * 오류율 또는 느린 호출 비율이 임계치를 넘으면 서킷이 열리고, 열린 동안의 요청은 AI 서버를 기다리지 않고 바로 폴백됩니다.
+ */
+@Configuration
+public class AiResilienceConfig {
+
+    public static final String AI_BACKEND = "aiBackend";
+
+    @Value("${ai.circuit-breaker.failure-rate-threshold:50}")
+    private float failureRateThreshold;
+
+    @Value("${ai.circuit-breaker.slow-call-rate-threshold:80}")
+    private float slowCallRateThreshold;
+
+    @Value("${ai.circuit-breaker.slow-call-duration:PT10S}")
+    private Duration slowCallDuration;
+
+    @Value("${ai.circuit-breaker.sliding-window-size:20}")
+    private int slidingWindowSize;
+
+    @Value("${ai.circuit-breaker.minimum-number-of-calls:10}")
+    private int minimumNumberOfCalls;
+
+    @Value("${ai.circuit-breaker.wait-duration-in-open-state:PT30S}")
+    private Duration waitDurationInOpenState;
+
+    @Value("${ai.circuit-breaker.permitted-calls-in-half-open-state:3}")
+    private int permittedCallsInHalfOpenState;
+
+    @Value("${ai.bulkhead.max-concurrent-calls:20}")
+    private int maxConcurrentCalls;
+
+    @Bean
+    public CircuitBreakerRegistry circuitBreakerRegistry() {
+        CircuitBreakerConfig config = CircuitBreakerConfig.custom()
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(minimumNumberOfCalls)
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallRateThreshold(slowCallRateThreshold)
+                .slowCallDurationThreshold(slowCallDuration)
+                .waitDurationInOpenState(waitDurationInOpenState)
+                .permittedNumberOfCallsInHalfOpenState(permittedCallsInHalfOpenState)
+                .automaticTransitionFromOpenToHalfOpenEnabled(true)
+                // 벌크헤드 포화는 AI 서버 장애가 아니므로 서킷 오류율에 포함하지 않습니다.
+                .ignoreExceptions(BulkheadFullException.class)
+                .build();
+        return CircuitBreakerRegistry.of(config);
+    }
+
+    @Bean
+    public CircuitBreaker aiCircuitBreaker(CircuitBreakerRegistry circuitBreakerRegistry) {
+        return circuitBreakerRegistry.circuitBreaker(AI_BACKEND);
+    }
+
+    @Bean
+    public BulkheadRegistry bulkheadRegistry() {
+        BulkheadConfig config = BulkheadConfig.custom()
+                .maxConcurrentCalls(maxConcurrentCalls)
+                .maxWaitDuration(Duration.ZERO)
+                .build();
+        return BulkheadRegistry.of(config);
+    }
+
+    @Bean
+    public Bulkhead aiBulkhead(BulkheadRegistry bulkheadRegistry) {
+        return bulkheadRegistry.bulkhead(AI_BACKEND);
+    }
+}
@@ -0,0 +1,74 @@
+package com.ezlevup.jober.config;
+
+import com.ezlevup.jober.entity.User;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 사용자 조회 캐시 설정입니다.
+ * 캐시 갱신·삭제는 트랜잭션이 커밋된 뒤에 반영되므로, 롤백된 저장 내용이 캐시에 남지 않습니다.
+ * {@link User} 는 변경 가능한 JPA 엔티티이므로 캐시에는 사본을 넣고 꺼낼 때도 사본을 돌려줍니다.
+ * 호출한 쪽이 조회 결과를 수정해도 캐시나 다른 요청이 받은 객체에는 영향이 없습니다.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String USERS_BY_EMAIL = "usersByEmail";
+    public static final String USERS_BY_ID = "usersById";
+
+    @Value("${user.cache.maximum-size:10000}")
+    private long maximumSize;
+
+    @Value("${user.cache.ttl:PT10M}")
+    private Duration ttl;
+
+    @Bean
+    public CacheManager cacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager() {
+            @Override
+            protected Cache adaptCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+                return new UserCopyingCache(name, cache, isAllowNullValues());
+            }
+        };
+        cacheManager.setCacheNames(List.of(USERS_BY_EMAIL, USERS_BY_ID));
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(ttl)
+            .recordStats());
+        cacheManager.setAllowNullValues(false);
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+
+    private static final class UserCopyingCache extends CaffeineCache {
+
+        UserCopyingCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache, boolean allowNullValues) {
+            super(name, cache, allowNullValues);
+        }
+
+        @Override
+        protected Object toStoreValue(Object userValue) {
+            return super.toStoreValue(copy(userValue));
+        }
+
+        @Override
+        protected Object fromStoreValue(Object storeValue) {
+            return copy(super.fromStoreValue(storeValue));
+        }
+
+        private static Object copy(Object value) {
+            return value instanceof User user ? user.copy() : value;
+        }
+    }
+}
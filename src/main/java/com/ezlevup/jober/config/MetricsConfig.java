@@ -0,0 +1,38 @@
+package com.ezlevup.jober.config;
+
+import com.ezlevup.jober.service.TemplateResponseCache;
+import com.ezlevup.jober.util.VerifiedTokenCache;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Actuator 가 자동으로 등록하지 않는 메트릭을 등록합니다.
+ * 사용자 조회 캐시처럼 CacheManager 에 있는 캐시는 Actuator 가 직접 등록하므로 여기서는 제외합니다.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MeterBinder aiResilienceMetrics(CircuitBreakerRegistry circuitBreakerRegistry,
+                                           BulkheadRegistry bulkheadRegistry) {
+        return registry -> {
+            TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry).bindTo(registry);
+            TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheadRegistry).bindTo(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder applicationCacheMetrics(TemplateResponseCache templateResponseCache,
+                                               VerifiedTokenCache verifiedTokenCache) {
+        return registry -> {
+            CaffeineCacheMetrics.monitor(registry, templateResponseCache.nativeCache(), "templateResponses");
+            CaffeineCacheMetrics.monitor(registry, verifiedTokenCache.nativeCache(), "verifiedTokens");
+        };
+    }
+}
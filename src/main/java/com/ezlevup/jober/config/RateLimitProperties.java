@@ -0,0 +1,52 @@
+package com.ezlevup.jober.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 경로별 요청 수 제한 설정 ({@code rate-limit.*}). 요청은 목록에서 처음 일치하는 경로의 제한만 적용받습니다.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    /** 경로마다 상태를 보관할 최대 키(사용자·IP) 수 */
+    private long maxKeys = 100_000;
+
+    private List<Route> routes = new ArrayList<>();
+
+    public enum KeyType {
+        /** 로그인한 사용자 ID, 로그인하지 않은 요청은 클라이언트 IP */
+        USER,
+        /** 클라이언트 IP */
+        IP
+    }
+
+    @Data
+    public static class Route {
+
+        /** Ant 패턴 경로 (예: /api/templates/generate/**) */
+        private String path;
+
+        /** HTTP 메서드, 비워 두면 모든 메서드 */
+        private String method;
+
+        private KeyType key = KeyType.USER;
+
+        /** period 동안 허용할 요청 수 */
+        private int permits;
+
+        private Duration period = Duration.ofMinutes(1);
+
+        /** 한꺼번에 허용할 최대 요청 수 */
+        private int burst = 1;
+    }
+}
@@ -1,28 +1,57 @@
 package com.ezlevup.jober.config;
 
 import com.ezlevup.jober.filter.JwtAuthenticationFilter;
+import com.ezlevup.jober.filter.RateLimitFilter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+
+import java.util.Arrays;
+import java.util.List;
 
 @Configuration
 @EnableWebSecurity
 @RequiredArgsConstructor
 public class SecurityConfig {
     
+    /**
+     * 인증 정보가 필요 없는 경로입니다. JWT 필터도 이 경로에서는 토큰을 검사하지 않습니다.
+     */
+    public static final String[] PUBLIC_PATHS = {
+        "/api/signup", "/api/signup/availability", "/api/login", "/api/token/refresh", "/api/hello", "/h2-console/**",
+        "/swagger-ui/**", "/swagger-ui.html", "/api-docs/**", "/v3/api-docs/**",
+        "/.well-known/jwks.json", "/actuator/health/**"
+    };
+    
+    /**
+     * 헬스 체크를 제외한 Actuator 경로입니다. 메트릭·캐시·서킷 브레이커 상태가 드러나므로
+     * {@code security.actuator.allowed-networks} 에 등록된 주소(Prometheus 수집기 등)에서만 접근할 수 있습니다.
+     */
+    private static final String ACTUATOR_PATHS = "/actuator/**";
+    
+    /**
+     * 로그인 없이 접근할 수 있지만, 토큰이 있으면 사용자 정보를 사용하는 경로입니다.
+     */
+    private static final String[] OPTIONAL_AUTH_PATHS = {
+        "/api/logout", "/api/templates/**"
+    };
+    
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
     
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
-    }
+    // 프록시 뒤에서는 server.forward-headers-strategy 로 실제 클라이언트 IP 가 전달되어야 합니다.
+    @Value("${security.actuator.allowed-networks:127.0.0.1/32,::1/128}")
+    private String[] actuatorAllowedNetworks;
     
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
@@ -30,13 +59,25 @@ public class SecurityConfig {
             .csrf(csrf -> csrf.disable())
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(auth -> auth
-                .requestMatchers("/api/signup", "/api/login", "/api/logout", "/api/hello", "/h2-console/**", 
-                    "/swagger-ui/**", "/swagger-ui.html", "/api-docs/**", "/v3/api-docs/**", "/api/templates/**").permitAll()
+                .requestMatchers(PUBLIC_PATHS).permitAll()
+                .requestMatchers(ACTUATOR_PATHS).access(fromAllowedNetworks(actuatorAllowedNetworks))
+                .requestMatchers(OPTIONAL_AUTH_PATHS).permitAll()
                 .anyRequest().authenticated()
             )
             .headers(headers -> headers.frameOptions().disable())
-            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+            .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class);
         
         return http.build();
     }
-}
\ No newline at end of file
+    
+    private static AuthorizationManager<RequestAuthorizationContext> fromAllowedNetworks(String[] networks) {
+        List<IpAddressMatcher> matchers = Arrays.stream(networks)
+            .map(String::trim)
+            .filter(network -> !network.isEmpty())
+            .map(IpAddressMatcher::new)
+            .toList();
+        return (authentication, context) -> new AuthorizationDecision(
+            matchers.stream().anyMatch(matcher -> matcher.matches(context.getRequest())));
+    }
+}
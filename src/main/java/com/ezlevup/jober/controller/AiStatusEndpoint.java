@@ -0,0 +1,54 @@
+package com.ezlevup.jober.controller;
+
+import com.ezlevup.jober.service.AiRequestCoalescer;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * AI 서버 서킷 브레이커 상태, 벌크헤드 여유량, 중복 요청 병합 현황을 {@code /actuator/aistatus} 로 제공합니다.
+ * 운영 정보이므로 다른 Actuator 경로와 같이 허용된 네트워크에서만 조회할 수 있습니다.
+ */
+@Component
+@Endpoint(id = "aistatus")
+@RequiredArgsConstructor
+public class AiStatusEndpoint {
+
+    private final AiRequestCoalescer aiRequestCoalescer;
+    private final CircuitBreaker aiCircuitBreaker;
+    private final Bulkhead aiBulkhead;
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        Map<String, Object> coalescing = new LinkedHashMap<>();
+        coalescing.put("upstreamCalls", aiRequestCoalescer.getUpstreamCalls());
+        coalescing.put("coalescedCalls", aiRequestCoalescer.getCoalescedCalls());
+        coalescing.put("inFlight", aiRequestCoalescer.getInFlightCount());
+
+        CircuitBreaker.Metrics metrics = aiCircuitBreaker.getMetrics();
+        Map<String, Object> circuitBreaker = new LinkedHashMap<>();
+        circuitBreaker.put("state", aiCircuitBreaker.getState());
+        circuitBreaker.put("failureRate", metrics.getFailureRate());
+        circuitBreaker.put("slowCallRate", metrics.getSlowCallRate());
+        circuitBreaker.put("bufferedCalls", metrics.getNumberOfBufferedCalls());
+        circuitBreaker.put("failedCalls", metrics.getNumberOfFailedCalls());
+        circuitBreaker.put("slowCalls", metrics.getNumberOfSlowCalls());
+        circuitBreaker.put("notPermittedCalls", metrics.getNumberOfNotPermittedCalls());
+
+        Map<String, Object> bulkhead = new LinkedHashMap<>();
+        bulkhead.put("availableConcurrentCalls", aiBulkhead.getMetrics().getAvailableConcurrentCalls());
+        bulkhead.put("maxAllowedConcurrentCalls", aiBulkhead.getMetrics().getMaxAllowedConcurrentCalls());
+
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("circuitBreaker", circuitBreaker);
+        data.put("bulkhead", bulkhead);
+        data.put("coalescing", coalescing);
+        return data;
+    }
+}
@@ -0,0 +1,57 @@
+package com.ezlevup.jober.controller;
+
+import com.ezlevup.jober.util.VerifiedTokenCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 사용자 조회 캐시(usersByEmail, usersById)와 검증된 JWT 캐시(verifiedTokens)의 적중률과 크기를
+ * {@code /actuator/authcache} 로 제공합니다. missCount 가 실제 DB 조회 횟수입니다.
+ * 운영 정보이므로 다른 Actuator 경로와 같이 허용된 네트워크에서만 조회할 수 있습니다.
+ */
+@Component
+@Endpoint(id = "authcache")
+@RequiredArgsConstructor
+public class AuthCacheEndpoint {
+
+    private final CacheManager cacheManager;
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    @ReadOperation
+    public Map<String, Object> stats() {
+        Map<String, Object> data = new LinkedHashMap<>();
+
+        for (String name : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache instanceof TransactionAwareCacheDecorator decorator) {
+                cache = decorator.getTargetCache();
+            }
+            if (cache instanceof CaffeineCache caffeineCache) {
+                com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache = caffeineCache.getNativeCache();
+                data.put(name, toMap(nativeCache.stats(), nativeCache.estimatedSize()));
+            }
+        }
+        data.put("verifiedTokens", toMap(verifiedTokenCache.stats(), verifiedTokenCache.estimatedSize()));
+        return data;
+    }
+
+    private Map<String, Object> toMap(CacheStats stats, long size) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("size", size);
+        data.put("hitCount", stats.hitCount());
+        data.put("missCount", stats.missCount());
+        data.put("hitRate", stats.hitRate());
+        data.put("evictionCount", stats.evictionCount());
+        return data;
+    }
+}
@@ -3,8 +3,14 @@ package com.ezlevup.jober.controller;
 import com.ezlevup.jober.dto.ApiResponse;
 import com.ezlevup.jober.dto.AuthResponse;
 import com.ezlevup.jober.dto.LoginRequest;
+import com.ezlevup.jober.dto.SignupAvailabilityResponse;
 import com.ezlevup.jober.dto.SignupRequest;
+import com.ezlevup.jober.dto.TokenRefreshRequest;
 import com.ezlevup.jober.entity.User;
+import com.ezlevup.jober.service.PasswordHashingService;
+import com.ezlevup.jober.service.RefreshTokenService;
+import com.ezlevup.jober.service.SignupAvailabilityService;
+import com.ezlevup.jober.service.TokenRevocationService;
 import com.ezlevup.jober.service.UserService;
 import com.ezlevup.jober.util.JwtUtil;
 import io.swagger.v3.oas.annotations.Operation;
@@ -16,10 +22,15 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestController
 @RequestMapping("/api")
@@ -30,6 +41,10 @@ public class AuthController {
     
     private final UserService userService;
     private final JwtUtil jwtUtil;
+    private final TokenRevocationService tokenRevocationService;
+    private final RefreshTokenService refreshTokenService;
+    private final PasswordHashingService passwordHashingService;
+    private final SignupAvailabilityService signupAvailabilityService;
     
     @PostMapping("/signup")
     @Operation(
@@ -70,6 +85,17 @@ public class AuthController {
                     value = "{\"success\":false,\"message\":\"입력값에 오류가 있습니다.\",\"fieldErrors\":{\"email\":\"이메일은 필수입니다.\"}}"
                 )
             )
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "503",
+            description = "요청이 몰려 처리할 수 없음 (Retry-After 헤더의 초만큼 기다린 뒤 재시도)",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    name = "과부하 응답",
+                    value = "{\"success\":false,\"message\":\"요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.\"}"
+                )
+            )
         )
     })
     public ResponseEntity<ApiResponse<AuthResponse>> signup(
@@ -86,7 +112,8 @@ public class AuthController {
             User user = userService.createUser(request);
             
             // JWT 토큰 생성
-            String token = jwtUtil.generateToken(user.getEmail(), user.getId());
+            String token = jwtUtil.generateToken(user.getEmail(), user.getId(), user.getNickname(), List.of());
+            String refreshToken = refreshTokenService.issue(user);
             
             User responseUser = new User();
             responseUser.setId(user.getId());
@@ -94,18 +121,90 @@ public class AuthController {
             responseUser.setNickname(user.getNickname());
             responseUser.setCreatedAt(user.getCreatedAt());
             
-            AuthResponse authResponse = new AuthResponse(token, responseUser);
+            AuthResponse authResponse = new AuthResponse(token, refreshToken, responseUser);
             
             return ResponseEntity.ok(
                 ApiResponse.success("회원가입이 완료되었습니다.", authResponse)
             );
             
+        } catch (UserService.DuplicateUserException e) {
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.failure("입력값에 오류가 있습니다.", e.getErrors()));
+        } catch (RejectedExecutionException e) {
+            return passwordHashingOverloaded();
         } catch (Exception e) {
             return ResponseEntity.internalServerError()
                 .body(ApiResponse.failure("회원가입 처리 중 오류가 발생했습니다."));
         }
     }
     
+    @GetMapping("/signup/availability")
+    @Operation(
+        summary = "이메일·닉네임 사용 가능 여부 확인",
+        description = "회원가입 폼에서 입력 중인 이메일과 닉네임이 사용 가능한지 확인합니다. 둘 중 하나 이상을 전달해야 하며, 전달한 항목만 결과에 포함됩니다."
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "확인 성공",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ApiResponse.class),
+                examples = @ExampleObject(
+                    name = "성공 응답",
+                    value = "{\"success\":true,\"message\":\"사용 가능 여부를 확인했습니다.\",\"data\":{\"emailAvailable\":true,\"nicknameAvailable\":false}}"
+                )
+            )
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "400",
+            description = "확인할 값이 없거나 이메일 형식이 올바르지 않음",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    name = "실패 응답",
+                    value = "{\"success\":false,\"message\":\"입력값에 오류가 있습니다.\",\"fieldErrors\":{\"email\":\"올바른 이메일 형식이 아닙니다.\"}}"
+                )
+            )
+        )
+    })
+    public ResponseEntity<ApiResponse<SignupAvailabilityResponse>> checkSignupAvailability(
+        @Parameter(description = "확인할 이메일", example = "user@example.com")
+        @RequestParam(required = false) String email,
+        @Parameter(description = "확인할 닉네임", example = "사용자")
+        @RequestParam(required = false) String nickname) {
+        try {
+            boolean emailPresent = email != null && !email.trim().isEmpty();
+            boolean nicknamePresent = nickname != null && !nickname.trim().isEmpty();
+            
+            if (!emailPresent && !nicknamePresent) {
+                return ResponseEntity.badRequest()
+                    .body(ApiResponse.failure("이메일 또는 닉네임을 입력해주세요."));
+            }
+            
+            if (emailPresent && !UserService.isValidEmail(email)) {
+                return ResponseEntity.badRequest()
+                    .body(ApiResponse.failure("입력값에 오류가 있습니다.", Map.of("email", "올바른 이메일 형식이 아닙니다.")));
+            }
+            
+            SignupAvailabilityService.Availability availability = signupAvailabilityService.check(
+                emailPresent ? email : null, nicknamePresent ? nickname : null);
+            
+            SignupAvailabilityResponse response = new SignupAvailabilityResponse(
+                emailPresent ? !availability.emailTaken() : null,
+                nicknamePresent ? !availability.nicknameTaken() : null
+            );
+            
+            return ResponseEntity.ok(
+                ApiResponse.success("사용 가능 여부를 확인했습니다.", response)
+            );
+            
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError()
+                .body(ApiResponse.failure("사용 가능 여부 확인 중 오류가 발생했습니다."));
+        }
+    }
+    
     @PostMapping("/login")
     @Operation(
         summary = "로그인",
@@ -145,6 +244,17 @@ public class AuthController {
                     value = "{\"success\":false,\"message\":\"이메일 또는 비밀번호가 올바르지 않습니다.\"}"
                 )
             )
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "503",
+            description = "요청이 몰려 처리할 수 없음 (Retry-After 헤더의 초만큼 기다린 뒤 재시도)",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    name = "과부하 응답",
+                    value = "{\"success\":false,\"message\":\"요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.\"}"
+                )
+            )
         )
     })
     public ResponseEntity<ApiResponse<AuthResponse>> login(
@@ -169,7 +279,8 @@ public class AuthController {
             }
             
             // JWT 토큰 생성
-            String token = jwtUtil.generateToken(user.getEmail(), user.getId());
+            String token = jwtUtil.generateToken(user.getEmail(), user.getId(), user.getNickname(), List.of());
+            String refreshToken = refreshTokenService.issue(user);
             
             User responseUser = new User();
             responseUser.setId(user.getId());
@@ -177,22 +288,86 @@ public class AuthController {
             responseUser.setNickname(user.getNickname());
             responseUser.setCreatedAt(user.getCreatedAt());
             
-            AuthResponse authResponse = new AuthResponse(token, responseUser);
+            AuthResponse authResponse = new AuthResponse(token, refreshToken, responseUser);
             
             return ResponseEntity.ok(
                 ApiResponse.success("로그인이 완료되었습니다.", authResponse)
             );
             
+        } catch (RejectedExecutionException e) {
+            return passwordHashingOverloaded();
         } catch (Exception e) {
             return ResponseEntity.internalServerError()
                 .body(ApiResponse.failure("로그인 처리 중 오류가 발생했습니다."));
         }
     }
     
+    @PostMapping("/token/refresh")
+    @Operation(
+        summary = "토큰 재발급",
+        description = "리프레시 토큰으로 새 액세스 토큰과 새 리프레시 토큰을 발급합니다. "
+            + "리프레시 토큰은 한 번만 사용할 수 있으며, 이미 사용된 토큰이 다시 오면 같은 로그인에서 발급된 토큰을 모두 폐기합니다."
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "재발급 성공",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ApiResponse.class),
+                examples = @ExampleObject(
+                    name = "성공 응답",
+                    value = "{\"success\":true,\"message\":\"토큰이 재발급되었습니다.\",\"data\":{\"token\":\"eyJhbGciOiJIUzI1NiJ9...\",\"refreshToken\":\"q8C2m1...\",\"user\":{\"id\":1,\"email\":\"user@example.com\",\"nickname\":\"사용자닉네임\"}}}"
+                )
+            )
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "401",
+            description = "유효하지 않은 리프레시 토큰",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    name = "실패 응답",
+                    value = "{\"success\":false,\"message\":\"유효하지 않은 리프레시 토큰입니다. 다시 로그인해주세요.\"}"
+                )
+            )
+        )
+    })
+    public ResponseEntity<ApiResponse<AuthResponse>> refreshToken(
+        @Parameter(description = "토큰 재발급 요청 정보", required = true)
+        @RequestBody TokenRefreshRequest request) {
+        try {
+            Optional<RefreshTokenService.Rotation> rotation = refreshTokenService.rotate(request.getRefreshToken());
+            if (rotation.isEmpty()) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(ApiResponse.failure("유효하지 않은 리프레시 토큰입니다. 다시 로그인해주세요."));
+            }
+            
+            User user = rotation.get().user();
+            String token = jwtUtil.generateToken(user.getEmail(), user.getId(), user.getNickname(), List.of());
+            
+            User responseUser = new User();
+            responseUser.setId(user.getId());
+            responseUser.setEmail(user.getEmail());
+            responseUser.setNickname(user.getNickname());
+            responseUser.setCreatedAt(user.getCreatedAt());
+            
+            AuthResponse authResponse = new AuthResponse(token, rotation.get().refreshToken(), responseUser);
+            
+            return ResponseEntity.ok(
+                ApiResponse.success("토큰이 재발급되었습니다.", authResponse)
+            );
+            
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError()
+                .body(ApiResponse.failure("토큰 재발급 처리 중 오류가 발생했습니다."));
+        }
+    }
+    
     @PostMapping("/logout")
     @Operation(
         summary = "로그아웃",
-        description = "현재 로그인된 사용자를 로그아웃합니다. JWT 토큰이 필요합니다."
+        description = "현재 로그인된 사용자를 로그아웃합니다. JWT 토큰이 필요하며, 전달된 토큰은 만료 전이라도 더 이상 사용할 수 없습니다."
     )
     @SecurityRequirement(name = "JWT")
     @ApiResponses(value = {
@@ -208,11 +383,21 @@ public class AuthController {
             )
         )
     })
-    public ResponseEntity<ApiResponse<String>> logout() {
+    public ResponseEntity<ApiResponse<String>> logout(
+        @Parameter(hidden = true)
+        @RequestHeader(value = "Authorization", required = false) String authorization,
+        @Parameter(description = "함께 폐기할 리프레시 토큰 (선택)")
+        @RequestBody(required = false) TokenRefreshRequest request) {
         try {
-            // 현재는 단순한 로그아웃 응답만 반환
-            // 실제 세션 기반 인증을 사용한다면 세션 무효화 처리
-            // JWT를 사용한다면 토큰 블랙리스트 처리 등을 할 수 있음
+            if (request != null) {
+                refreshTokenService.revoke(request.getRefreshToken());
+            }
+            
+            // 전달된 토큰을 폐기 목록에 올려 만료 전이라도 더 이상 인증에 쓰이지 않게 합니다.
+            if (authorization != null && authorization.startsWith("Bearer ")) {
+                jwtUtil.parseClaims(authorization.substring(7))
+                    .ifPresent(claims -> tokenRevocationService.revoke(claims.getId(), claims.getExpiration()));
+            }
             
             return ResponseEntity.ok(
                 ApiResponse.success("로그아웃이 완료되었습니다.", null)
@@ -223,4 +408,11 @@ public class AuthController {
                 .body(ApiResponse.failure("로그아웃 처리 중 오류가 발생했습니다."));
         }
     }
+    
+    // 비밀번호 해시 대기열이 가득 찼을 때는 기다리지 않고 바로 거절해 다른 요청이 밀리지 않게 합니다.
+    private <T> ResponseEntity<ApiResponse<T>> passwordHashingOverloaded() {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(passwordHashingService.retryAfterSeconds()))
+            .body(ApiResponse.failure("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."));
+    }
 }
\ No newline at end of file
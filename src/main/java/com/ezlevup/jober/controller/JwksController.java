@@ -0,0 +1,39 @@
+package com.ezlevup.jober.controller;
+
+import com.ezlevup.jober.security.JwtKeyRing;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+@Tag(name = "인증", description = "사용자 인증 관련 API")
+public class JwksController {
+    
+    private final JwtKeyRing jwtKeyRing;
+    
+    /**
+     * 비대칭 서명 키의 공개 키 목록(JWKS)을 반환합니다.
+     * 다른 노드는 이 목록으로 비밀값 없이 토큰 서명을 검증할 수 있습니다. 표준 형식이므로 ApiResponse 로 감싸지 않습니다.
+     */
+    @GetMapping("/.well-known/jwks.json")
+    @Operation(
+        summary = "JWT 공개 키 목록 (JWKS)",
+        description = "Ed25519/RSA 서명 키의 공개 키를 JWK Set 형식으로 반환합니다. HMAC 키는 포함하지 않습니다."
+    )
+    public ResponseEntity<Map<String, List<Map<String, Object>>>> jwks() {
+        return ResponseEntity.ok()
+            .cacheControl(CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic())
+            .body(Map.of("keys", jwtKeyRing.publicJwks()));
+    }
+}
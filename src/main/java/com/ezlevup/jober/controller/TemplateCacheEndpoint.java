@@ -0,0 +1,39 @@
+package com.ezlevup.jober.controller;
+
+import com.ezlevup.jober.service.TemplateResponseCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * AI 템플릿 응답 캐시의 적중률, 제거 횟수, 생성 지연 시간을 {@code /actuator/templatecache} 로 제공합니다.
+ * 운영 정보이므로 다른 Actuator 경로와 같이 허용된 네트워크에서만 조회할 수 있습니다.
+ */
+@Component
+@Endpoint(id = "templatecache")
+@RequiredArgsConstructor
+public class TemplateCacheEndpoint {
+
+    private final TemplateResponseCache templateResponseCache;
+
+    @ReadOperation
+    public Map<String, Object> stats() {
+        CacheStats stats = templateResponseCache.stats();
+
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("size", templateResponseCache.estimatedSize());
+        data.put("hitCount", stats.hitCount());
+        data.put("missCount", stats.missCount());
+        data.put("hitRate", stats.hitRate());
+        data.put("evictionCount", stats.evictionCount());
+        data.put("loadSuccessCount", stats.loadSuccessCount());
+        data.put("loadFailureCount", stats.loadFailureCount());
+        data.put("averageLoadPenaltyMillis", stats.averageLoadPenalty() / 1_000_000.0);
+        return data;
+    }
+}
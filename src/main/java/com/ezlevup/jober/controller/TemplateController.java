@@ -1,9 +1,21 @@
 package com.ezlevup.jober.controller;
 
 import com.ezlevup.jober.dto.ApiResponse;
+import com.ezlevup.jober.dto.TemplateBatchItem;
+import com.ezlevup.jober.dto.TemplateBatchRequest;
 import com.ezlevup.jober.dto.TemplateGenerateRequest;
+import com.ezlevup.jober.dto.TemplateJobResponse;
+import com.ezlevup.jober.dto.TemplatePageResponse;
+import com.ezlevup.jober.dto.TemplateRenderRequest;
+import com.ezlevup.jober.dto.TemplateRenderResponse;
 import com.ezlevup.jober.entity.Template;
+import com.ezlevup.jober.service.TemplateBatchService;
+import com.ezlevup.jober.service.TemplateBulkRenderService;
+import com.ezlevup.jober.service.TemplateRenderer;
+import com.ezlevup.jober.service.TemplateJobService;
 import com.ezlevup.jober.service.TemplateService;
+import com.ezlevup.jober.service.TemplateStreamService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -13,10 +25,20 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestController
 @RequestMapping("/api/templates")
@@ -26,6 +48,12 @@ import java.util.List;
 public class TemplateController {
     
     private final TemplateService templateService;
+    private final TemplateJobService templateJobService;
+    private final TemplateStreamService templateStreamService;
+    private final TemplateBatchService templateBatchService;
+    private final TemplateRenderer templateRenderer;
+    private final TemplateBulkRenderService templateBulkRenderService;
+    private final ObjectMapper objectMapper;
     
     @PostMapping("/generate")
     @Operation(
@@ -69,9 +97,11 @@ public class TemplateController {
             )
         )
     })
-    public ResponseEntity<ApiResponse<Template>> generateTemplate(
+    public ResponseEntity<ApiResponse<?>> generateTemplate(
         @Parameter(description = "템플릿 생성 요청 정보", required = true)
         @RequestBody TemplateGenerateRequest request,
+        @Parameter(description = "true 이면 작업 ID를 즉시 반환하고 백그라운드에서 생성합니다.")
+        @RequestParam(value = "async", defaultValue = "false") boolean async,
         @Parameter(description = "사용자 ID", hidden = true)
         @RequestAttribute(value = "userId", required = false) Long userId) {
         
@@ -81,12 +111,21 @@ public class TemplateController {
                     .body(ApiResponse.failure("프롬프트를 입력해주세요."));
             }
             
+            if (async) {
+                TemplateJobResponse job = templateJobService.submit(request, userId != null ? userId : 0L);
+                return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .body(ApiResponse.success("템플릿 생성 작업이 등록되었습니다.", job));
+            }
+            
             Template template = templateService.generateTemplate(request, userId != null ? userId : 0L);
             
             return ResponseEntity.ok(
                 ApiResponse.success("템플릿이 성공적으로 생성되었습니다.", template)
             );
             
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(ApiResponse.failure("처리 중인 템플릿 생성 요청이 많습니다. 잠시 후 다시 시도해주세요."));
         } catch (Exception e) {
             e.printStackTrace();
             return ResponseEntity.internalServerError()
@@ -94,10 +133,199 @@ public class TemplateController {
         }
     }
     
+    @PostMapping(value = "/generate/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+        summary = "AI 템플릿 스트리밍 생성",
+        description = "AI 서버가 생성하는 템플릿을 SSE(text/event-stream)로 조각마다 전달합니다. "
+            + "이벤트 종류: chunk(생성 중인 조각), fallback(폴백 템플릿), error(오류), done(종료)"
+    )
+    @SecurityRequirement(name = "JWT")
+    public SseEmitter streamTemplate(
+        @Parameter(description = "템플릿 생성 요청 정보", required = true)
+        @RequestBody TemplateGenerateRequest request,
+        @Parameter(description = "사용자 ID", hidden = true)
+        @RequestAttribute(value = "userId", required = false) Long userId) {
+        
+        return templateStreamService.stream(request, userId != null ? userId : 0L);
+    }
+    
+    @GetMapping(value = "/generate/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+        summary = "AI 템플릿 스트리밍 생성 (EventSource)",
+        description = "브라우저 EventSource 에서 사용할 수 있도록 쿼리 파라미터로 요청을 받는 스트리밍 생성 API 입니다."
+    )
+    @SecurityRequirement(name = "JWT")
+    public SseEmitter streamTemplateByQuery(
+        @Parameter(description = "사용자 프롬프트", required = true)
+        @RequestParam("prompt") String prompt,
+        @Parameter(description = "비즈니스 타입")
+        @RequestParam(value = "businessType", required = false) String businessType,
+        @Parameter(description = "메시지 목적")
+        @RequestParam(value = "messagePurpose", required = false) String messagePurpose,
+        @Parameter(description = "사용자 ID", hidden = true)
+        @RequestAttribute(value = "userId", required = false) Long userId) {
+        
+        TemplateGenerateRequest request = new TemplateGenerateRequest();
+        request.setPrompt(prompt);
+        request.setBusinessType(businessType);
+        request.setMessagePurpose(messagePurpose);
+        
+        return templateStreamService.stream(request, userId != null ? userId : 0L);
+    }
+    
+    @PostMapping("/generate/batch")
+    @Operation(
+        summary = "AI 템플릿 일괄 생성",
+        description = "여러 템플릿 생성 요청을 병렬로 처리하고, 모든 결과를 요청 순서대로 한 번에 반환합니다. "
+            + "stream=true 를 지정하면 완료되는 순서대로 NDJSON(application/x-ndjson)으로 전달합니다."
+    )
+    @SecurityRequirement(name = "JWT")
+    public DeferredResult<ResponseEntity<ApiResponse<List<TemplateBatchItem>>>> generateBatch(
+        @Parameter(description = "템플릿 일괄 생성 요청 정보", required = true)
+        @RequestBody TemplateBatchRequest request,
+        @Parameter(description = "사용자 ID", hidden = true)
+        @RequestAttribute(value = "userId", required = false) Long userId) {
+        
+        DeferredResult<ResponseEntity<ApiResponse<List<TemplateBatchItem>>>> result = new DeferredResult<>();
+        String validationError = validateBatchRequest(request);
+        if (validationError != null) {
+            result.setResult(ResponseEntity.badRequest().body(ApiResponse.failure(validationError)));
+            return result;
+        }
+        
+        TemplateBatchService.Batch batch =
+            templateBatchService.submit(request.getRequests(), userId != null ? userId : 0L);
+        // 응답 제한 시간 초과·연결 끊김·응답 완료 시 남은 항목을 중단합니다.
+        result.onTimeout(batch::cancel);
+        result.onError(error -> batch.cancel());
+        result.onCompletion(batch::cancel);
+        
+        batch.all().whenComplete((items, error) -> {
+            if (error != null) {
+                result.setErrorResult(error);
+            } else {
+                result.setResult(ResponseEntity.ok(ApiResponse.success("템플릿 일괄 생성이 완료되었습니다.", items)));
+            }
+        });
+        return result;
+    }
+    
+    @PostMapping(value = "/generate/batch", params = "stream=true", produces = "application/x-ndjson")
+    @Operation(
+        summary = "AI 템플릿 일괄 생성 (NDJSON 스트리밍)",
+        description = "각 항목이 완료되는 즉시 한 줄의 JSON 으로 전달합니다. 항목의 index 로 요청 위치를 확인할 수 있습니다."
+    )
+    @SecurityRequirement(name = "JWT")
+    public ResponseEntity<?> streamBatch(
+        @Parameter(description = "템플릿 일괄 생성 요청 정보", required = true)
+        @RequestBody TemplateBatchRequest request,
+        @Parameter(description = "사용자 ID", hidden = true)
+        @RequestAttribute(value = "userId", required = false) Long userId) {
+        
+        String validationError = validateBatchRequest(request);
+        if (validationError != null) {
+            return ResponseEntity.badRequest()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(ApiResponse.failure(validationError));
+        }
+        
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter();
+        TemplateBatchService.Batch batch =
+            templateBatchService.submit(request.getRequests(), userId != null ? userId : 0L);
+        // 응답 제한 시간 초과·연결 끊김·응답 완료 시 남은 항목을 중단합니다.
+        emitter.onTimeout(batch::cancel);
+        emitter.onError(error -> batch.cancel());
+        emitter.onCompletion(batch::cancel);
+        
+        List<CompletableFuture<Void>> writes = batch.items().stream()
+            .map(item -> item.thenAccept(result -> sendNdjsonLine(emitter, result))
+                .whenComplete((done, error) -> {
+                    if (error != null) {
+                        // 한 줄이라도 쓰지 못했으면 클라이언트가 떠난 것으로 보고 나머지를 중단합니다.
+                        batch.cancel();
+                    }
+                }))
+            .toList();
+        CompletableFuture.allOf(writes.toArray(new CompletableFuture[0]))
+            .whenComplete((done, error) -> {
+                if (error != null) {
+                    emitter.completeWithError(error);
+                } else {
+                    emitter.complete();
+                }
+            });
+        
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType("application/x-ndjson"))
+            .body(emitter);
+    }
+    
+    private String validateBatchRequest(TemplateBatchRequest request) {
+        if (request.getRequests() == null || request.getRequests().isEmpty()) {
+            return "생성할 템플릿 요청을 입력해주세요.";
+        }
+        if (request.getRequests().size() > templateBatchService.getMaxItems()) {
+            return "한 번에 최대 " + templateBatchService.getMaxItems() + "개까지 생성할 수 있습니다.";
+        }
+        return null;
+    }
+    
+    private void sendNdjsonLine(ResponseBodyEmitter emitter, TemplateBatchItem item) {
+        try {
+            emitter.send(objectMapper.writeValueAsString(item) + "\n", MediaType.TEXT_PLAIN);
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to write batch item " + item.getIndex(), e);
+        }
+    }
+    
+    @GetMapping("/jobs/{jobId}")
+    @Operation(
+        summary = "템플릿 생성 작업 조회",
+        description = "비동기로 등록한 템플릿 생성 작업의 상태와 결과를 조회합니다."
+    )
+    @SecurityRequirement(name = "JWT")
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "조회 성공",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ApiResponse.class),
+                examples = @ExampleObject(
+                    name = "성공 응답",
+                    value = "{\"success\":true,\"message\":\"템플릿 생성 작업을 조회했습니다.\",\"data\":{\"jobId\":\"5f0c8c3e-8f0a-4b5e-9f57-0d6f0c2a1b3c\",\"status\":\"COMPLETED\",\"result\":{\"aiRes\":\"{...}\"}}}"
+                )
+            )
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "404",
+            description = "작업 없음",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    name = "실패 응답",
+                    value = "{\"success\":false,\"message\":\"템플릿 생성 작업을 찾을 수 없습니다.\"}"
+                )
+            )
+        )
+    })
+    public ResponseEntity<ApiResponse<TemplateJobResponse>> getJob(
+        @Parameter(description = "작업 ID", required = true)
+        @PathVariable String jobId,
+        @Parameter(description = "사용자 ID", hidden = true)
+        @RequestAttribute(value = "userId", required = false) Long userId) {
+        
+        return templateJobService.getJob(jobId, userId != null ? userId : 0L)
+            .map(job -> ResponseEntity.ok(ApiResponse.success("템플릿 생성 작업을 조회했습니다.", job)))
+            .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(ApiResponse.failure("템플릿 생성 작업을 찾을 수 없습니다.")));
+    }
+    
     @GetMapping("/my")
     @Operation(
         summary = "내 템플릿 목록 조회",
-        description = "현재 로그인된 사용자가 생성한 템플릿 목록을 조회합니다."
+        description = "현재 로그인된 사용자가 생성한 템플릿 목록을 최신순으로 조회합니다. "
+            + "응답의 nextCursor 를 cursor 로 전달하면 다음 페이지를 조회합니다."
     )
     @SecurityRequirement(name = "JWT")
     @ApiResponses(value = {
@@ -109,25 +337,176 @@ public class TemplateController {
                 schema = @Schema(implementation = ApiResponse.class),
                 examples = @ExampleObject(
                     name = "성공 응답",
-                    value = "{\"success\":true,\"message\":\"템플릿 목록을 조회했습니다.\",\"data\":[{\"templateId\":\"TPL_001\",\"title\":\"[과제 안내]\",\"createdAt\":\"2024-01-01T10:00:00\"}]}"
+                    value = "{\"success\":true,\"message\":\"템플릿 목록을 조회했습니다.\",\"data\":{\"items\":[{\"id\":1,\"userId\":1,\"aiRes\":\"{...}\",\"createdAt\":\"2024-01-01T10:00:00\"}],\"nextCursor\":\"MjAyNC0wMS0wMVQxMDowMHwx\",\"hasNext\":true}}"
+                )
+            )
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "401",
+            description = "로그인 필요",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    name = "실패 응답",
+                    value = "{\"success\":false,\"message\":\"로그인이 필요합니다.\"}"
                 )
             )
         )
     })
-    public ResponseEntity<ApiResponse<List<Template>>> getMyTemplates(
+    public ResponseEntity<ApiResponse<TemplatePageResponse>> getMyTemplates(
+        @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+        @RequestParam(value = "cursor", required = false) String cursor,
+        @Parameter(description = "페이지 크기 (1~100)")
+        @RequestParam(value = "size", defaultValue = "20") int size,
         @Parameter(description = "사용자 ID", hidden = true)
         @RequestAttribute(value = "userId", required = false) Long userId) {
         
+        if (userId == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                .body(ApiResponse.failure("로그인이 필요합니다."));
+        }
+        
         try {
-            List<Template> templates = templateService.getUserTemplates(userId);
+            TemplatePageResponse page = templateService.getUserTemplates(userId, cursor, Math.max(1, Math.min(size, 100)));
             
             return ResponseEntity.ok(
-                ApiResponse.success("템플릿 목록을 조회했습니다.", templates)
+                ApiResponse.success("템플릿 목록을 조회했습니다.", page)
             );
             
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.failure("잘못된 커서입니다."));
         } catch (Exception e) {
             return ResponseEntity.internalServerError()
                 .body(ApiResponse.failure("템플릿 목록 조회 중 오류가 발생했습니다."));
         }
     }
-}
\ No newline at end of file
+    
+    @PostMapping("/render")
+    @Operation(
+        summary = "템플릿 변수 치환",
+        description = "저장된 템플릿(templateId) 또는 직접 전달한 내용(content)의 #{변수명} 을 주어진 값으로 치환합니다. "
+            + "값이 없는 변수는 그대로 남기고 missingVariables 로 알려줍니다."
+    )
+    @SecurityRequirement(name = "JWT")
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "치환 성공",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ApiResponse.class),
+                examples = @ExampleObject(
+                    name = "성공 응답",
+                    value = "{\"success\":true,\"message\":\"템플릿 변수를 치환했습니다.\",\"data\":{\"title\":\"[안내사항]\",\"content\":\"안녕하세요, 홍길동님.\",\"missingVariables\":[]}}"
+                )
+            )
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "404",
+            description = "템플릿 없음",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    name = "실패 응답",
+                    value = "{\"success\":false,\"message\":\"템플릿을 찾을 수 없습니다.\"}"
+                )
+            )
+        )
+    })
+    public ResponseEntity<ApiResponse<TemplateRenderResponse>> renderTemplate(
+        @RequestBody TemplateRenderRequest request,
+        @Parameter(description = "사용자 ID", hidden = true)
+        @RequestAttribute(value = "userId", required = false) Long userId) {
+        
+        if (request.getTemplateId() == null && request.getContent() == null) {
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.failure("templateId 또는 content 중 하나는 필수입니다."));
+        }
+        
+        try {
+            TemplateRenderer.CompiledMessage message;
+            if (request.getTemplateId() != null) {
+                if (userId == null) {
+                    return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                        .body(ApiResponse.failure("로그인이 필요합니다."));
+                }
+                Template template = templateService.findUserTemplate(userId, request.getTemplateId()).orElse(null);
+                if (template == null) {
+                    return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(ApiResponse.failure("템플릿을 찾을 수 없습니다."));
+                }
+                message = templateRenderer.compile(template.getAiRes());
+            } else {
+                message = templateRenderer.compileContent(request.getContent());
+            }
+            
+            TemplateRenderResponse rendered = message.render(TemplateRenderer.normalizeVariables(request.getVariables()));
+            return ResponseEntity.ok(
+                ApiResponse.success("템플릿 변수를 치환했습니다.", rendered)
+            );
+            
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.unprocessableEntity()
+                .body(ApiResponse.failure("템플릿 형식이 올바르지 않습니다."));
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError()
+                .body(ApiResponse.failure("템플릿 변수 치환 중 오류가 발생했습니다."));
+        }
+    }
+    
+    @PostMapping(value = "/{templateId}/render/bulk", consumes = MediaType.MULTIPART_FORM_DATA_VALUE, produces = "application/x-ndjson")
+    @Operation(
+        summary = "수신자 목록 일괄 치환 (NDJSON 스트리밍)",
+        description = "첫 행이 변수명 헤더인 CSV(UTF-8) 를 업로드하면 행마다 치환된 메시지를 한 줄의 JSON 으로 바로 전달합니다. "
+            + "변수가 빠진 행은 MISSING_VARIABLES, 열 개수가 맞지 않는 행은 INVALID 로 표시하고 계속 처리하며, "
+            + "마지막 줄에 처리 요약을 전달합니다."
+    )
+    @SecurityRequirement(name = "JWT")
+    public ResponseEntity<?> renderBulk(
+        @Parameter(description = "저장된 템플릿 ID", required = true)
+        @PathVariable Long templateId,
+        @Parameter(description = "수신자 변수 CSV 파일", required = true)
+        @RequestParam("file") MultipartFile file,
+        @Parameter(description = "사용자 ID", hidden = true)
+        @RequestAttribute(value = "userId", required = false) Long userId) {
+        
+        if (userId == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(ApiResponse.failure("로그인이 필요합니다."));
+        }
+        if (file.isEmpty()) {
+            return ResponseEntity.badRequest()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(ApiResponse.failure("수신자 CSV 파일이 비어 있습니다."));
+        }
+        
+        Template template = templateService.findUserTemplate(userId, templateId).orElse(null);
+        if (template == null) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(ApiResponse.failure("템플릿을 찾을 수 없습니다."));
+        }
+        
+        TemplateRenderer.CompiledMessage message;
+        try {
+            message = templateRenderer.compile(template.getAiRes());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.unprocessableEntity()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(ApiResponse.failure("템플릿 형식이 올바르지 않습니다."));
+        }
+        
+        // 업로드 파일은 디스크에 임시 저장되어 있으므로 응답을 쓰면서 조금씩 읽습니다.
+        StreamingResponseBody body = outputStream -> {
+            try (InputStream csv = file.getInputStream()) {
+                templateBulkRenderService.render(message, csv, outputStream);
+            }
+        };
+        
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType("application/x-ndjson"))
+            .body(body);
+    }
+}
@@ -6,10 +6,17 @@ import lombok.Data;
 @Data
 public class AuthResponse {
     private String token;
+    private String refreshToken;
     private User user;
     
     public AuthResponse(String token, User user) {
         this.token = token;
         this.user = user;
     }
-}
\ No newline at end of file
+    
+    public AuthResponse(String token, String refreshToken, User user) {
+        this.token = token;
+        this.refreshToken = refreshToken;
+        this.user = user;
+    }
+}
@@ -0,0 +1,19 @@
+package com.ezlevup.jober.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "회원가입 이메일·닉네임 사용 가능 여부 (요청에 포함한 항목만 반환)")
+public class SignupAvailabilityResponse {
+
+    @Schema(description = "이메일 사용 가능 여부", example = "true")
+    private Boolean emailAvailable;
+
+    @Schema(description = "닉네임 사용 가능 여부", example = "false")
+    private Boolean nicknameAvailable;
+}
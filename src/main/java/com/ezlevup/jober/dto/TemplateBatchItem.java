@@ -0,0 +1,28 @@
+package com.ezlevup.jober.dto;
+
+import com.ezlevup.jober.entity.Template;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+@Schema(description = "템플릿 일괄 생성 결과 항목")
+public class TemplateBatchItem {
+
+    public enum Status {
+        COMPLETED, TIMEOUT, FAILED, INVALID
+    }
+
+    @Schema(description = "요청 목록에서의 위치 (0부터 시작)", example = "0")
+    private int index;
+
+    @Schema(description = "처리 결과", example = "COMPLETED")
+    private Status status;
+
+    @Schema(description = "생성된 템플릿 (시간 초과·실패 시 폴백 템플릿)")
+    private Template template;
+
+    @Schema(description = "오류 메시지")
+    private String error;
+}
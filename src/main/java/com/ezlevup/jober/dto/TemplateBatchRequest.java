@@ -0,0 +1,14 @@
+package com.ezlevup.jober.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Schema(description = "템플릿 일괄 생성 요청")
+public class TemplateBatchRequest {
+    
+    @Schema(description = "생성할 템플릿 요청 목록", required = true)
+    private List<TemplateGenerateRequest> requests;
+}
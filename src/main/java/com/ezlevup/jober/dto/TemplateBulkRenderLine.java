@@ -0,0 +1,37 @@
+package com.ezlevup.jober.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "수신자별 템플릿 치환 결과 (NDJSON 한 줄)")
+public class TemplateBulkRenderLine {
+
+    public enum Status {
+        RENDERED, MISSING_VARIABLES, INVALID
+    }
+
+    @Schema(description = "CSV 데이터 행 번호 (헤더 제외, 1부터 시작)", example = "1")
+    private long row;
+
+    @Schema(description = "처리 결과", example = "RENDERED")
+    private Status status;
+
+    @Schema(description = "치환된 제목", example = "[안내사항]")
+    private String title;
+
+    @Schema(description = "치환된 내용", example = "안녕하세요, 홍길동님.")
+    private String content;
+
+    @Schema(description = "값이 없어 치환되지 않은 변수명")
+    private List<String> missingVariables;
+
+    @Schema(description = "오류 메시지")
+    private String error;
+}
@@ -21,4 +21,7 @@ public class TemplateGenerateRequest {
     
     @Schema(description = "메시지 목적", example = "공지사항")
     private String messagePurpose;
+    
+    @Schema(description = "true 이면 캐시된 결과를 사용하지 않고 AI 서버에서 새로 생성합니다.", example = "false")
+    private boolean bypassCache;
 }
\ No newline at end of file
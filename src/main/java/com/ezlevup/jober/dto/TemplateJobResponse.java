@@ -0,0 +1,36 @@
+package com.ezlevup.jober.dto;
+
+import com.ezlevup.jober.entity.Template;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+@Schema(description = "템플릿 생성 작업 상태")
+public class TemplateJobResponse {
+
+    public enum Status {
+        PENDING, RUNNING, COMPLETED, FAILED
+    }
+
+    @Schema(description = "작업 ID", example = "5f0c8c3e-8f0a-4b5e-9f57-0d6f0c2a1b3c")
+    private String jobId;
+
+    @Schema(description = "작업 상태", example = "COMPLETED")
+    private Status status;
+
+    @Schema(description = "생성된 템플릿 (완료된 경우)")
+    private Template result;
+
+    @Schema(description = "오류 메시지 (실패한 경우)")
+    private String error;
+
+    @Schema(description = "작업 등록 시각")
+    private LocalDateTime createdAt;
+
+    @Schema(description = "작업 완료 시각")
+    private LocalDateTime completedAt;
+}
@@ -0,0 +1,23 @@
+package com.ezlevup.jober.dto;
+
+import com.ezlevup.jober.entity.Template;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@Schema(description = "템플릿 목록 페이지")
+public class TemplatePageResponse {
+
+    @Schema(description = "최신순으로 정렬된 템플릿 목록")
+    private List<Template> items;
+
+    @Schema(description = "다음 페이지 조회에 사용할 커서 (마지막 페이지이면 null)")
+    private String nextCursor;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private boolean hasNext;
+}
@@ -0,0 +1,20 @@
+package com.ezlevup.jober.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.util.Map;
+
+@Data
+@Schema(description = "템플릿 변수 치환 요청")
+public class TemplateRenderRequest {
+    
+    @Schema(description = "저장된 템플릿 ID (content 와 둘 중 하나 필수)", example = "1")
+    private Long templateId;
+    
+    @Schema(description = "직접 치환할 내용 (templateId 가 없을 때 사용)", example = "안녕하세요, #{고객명}님.")
+    private String content;
+    
+    @Schema(description = "변수명과 값 (변수명은 #{} 를 붙여도, 생략해도 됩니다)", example = "{\"고객명\":\"홍길동\",\"연락처\":\"010-1234-5678\"}")
+    private Map<String, String> variables;
+}
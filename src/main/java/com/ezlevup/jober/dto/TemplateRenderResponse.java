@@ -0,0 +1,22 @@
+package com.ezlevup.jober.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@Schema(description = "템플릿 변수 치환 결과")
+public class TemplateRenderResponse {
+
+    @Schema(description = "치환된 제목", example = "[과제 안내]")
+    private String title;
+
+    @Schema(description = "치환된 내용", example = "안녕하세요, 홍길동님.")
+    private String content;
+
+    @Schema(description = "값이 없어 치환되지 않은 변수명")
+    private List<String> missingVariables;
+}
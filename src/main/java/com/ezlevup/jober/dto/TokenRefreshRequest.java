@@ -0,0 +1,12 @@
+package com.ezlevup.jober.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+@Data
+@Schema(description = "토큰 재발급 요청 DTO")
+public class TokenRefreshRequest {
+    
+    @Schema(description = "로그인 또는 이전 재발급 시 받은 리프레시 토큰", example = "q8C2m1...", required = true)
+    private String refreshToken;
+}
@@ -1,13 +1,42 @@
 package com.ezlevup.jober.entity;
 
+import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 
+
+@Entity
+@Table(name = "templates", indexes = {
+    @Index(name = "idx_templates_user_created", columnList = "user_id, created_at DESC, id DESC")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Template {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+    
+    @Lob
+    @Column(name = "ai_res", nullable = false)
     private String aiRes;
-}
\ No newline at end of file
+    
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    @PrePersist
+    protected void onCreate() {
+        if (createdAt == null) {
+            // DB 컬럼 정밀도(마이크로초)에 맞춰 커서 비교 시 값이 어긋나지 않도록 합니다.
+            createdAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        }
+    }
+}
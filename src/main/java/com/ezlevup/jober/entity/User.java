@@ -1,5 +1,6 @@
 package com.ezlevup.jober.entity;
 
+import com.ezlevup.jober.service.UserAvailabilityListener;
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -8,7 +9,8 @@ import lombok.AllArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = @Index(name = "uk_users_nickname", columnList = "nickname", unique = true))
+@EntityListeners(UserAvailabilityListener.class)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -33,6 +35,13 @@ public class User {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
     
+    /**
+     * 같은 값을 가진 영속성 컨텍스트 밖의 사본을 만듭니다. 여러 요청이 공유하는 캐시에 넣고 꺼낼 때 사용합니다.
+     */
+    public User copy() {
+        return new User(id, email, password, nickname, createdAt, updatedAt);
+    }
+    
     @PrePersist
     protected void onCreate() {
         LocalDateTime now = LocalDateTime.now();
@@ -1,28 +1,63 @@
 package com.ezlevup.jober.filter;
 
-import com.ezlevup.jober.entity.User;
+import com.ezlevup.jober.config.SecurityConfig;
 import com.ezlevup.jober.repository.UserRepository;
-import com.ezlevup.jober.util.JwtUtil;
+import com.ezlevup.jober.security.JwtPrincipal;
+import com.ezlevup.jober.service.TokenRevocationService;
+import com.ezlevup.jober.util.VerifiedTokenCache;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 @Component
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     
-    private final JwtUtil jwtUtil;
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final PathMatcher PATH_MATCHER = new AntPathMatcher();
+    
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenRevocationService tokenRevocationService;
     private final UserRepository userRepository;
+    private final String[] dbCheckPaths;
+    private final Timer validTokenTimer;
+    private final Timer invalidTokenTimer;
+    
+    public JwtAuthenticationFilter(VerifiedTokenCache verifiedTokenCache,
+                                   TokenRevocationService tokenRevocationService,
+                                   UserRepository userRepository,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${jwt.db-check-paths:}") String[] dbCheckPaths) {
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.tokenRevocationService = tokenRevocationService;
+        this.userRepository = userRepository;
+        this.dbCheckPaths = dbCheckPaths;
+        this.validTokenTimer = meterRegistry.timer("jwt.verification", "result", "valid");
+        this.invalidTokenTimer = meterRegistry.timer("jwt.verification", "result", "invalid");
+    }
+    
+    /**
+     * 인증이 필요 없는 공개 경로는 토큰을 검사하지 않습니다.
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return matchesAny(SecurityConfig.PUBLIC_PATHS, request.getServletPath());
+    }
     
     @Override
     protected void doFilterInternal(HttpServletRequest request, 
@@ -30,31 +65,58 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                                   FilterChain filterChain) throws ServletException, IOException {
         
         String authHeader = request.getHeader("Authorization");
-        String token = null;
-        String email = null;
-        
-        if (authHeader != null && authHeader.startsWith("Bearer ")) {
-            token = authHeader.substring(7);
-            try {
-                email = jwtUtil.getEmailFromToken(token);
-            } catch (Exception e) {
-                // 토큰 파싱 실패
-                logger.debug("JWT 토큰 파싱 실패: " + e.getMessage());
-            }
-        }
         
-        if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            if (jwtUtil.validateToken(token) && !jwtUtil.isTokenExpired(token)) {
-                Optional<User> userOpt = userRepository.findByEmail(email);
-                if (userOpt.isPresent()) {
-                    User user = userOpt.get();
+        if (authHeader != null && authHeader.startsWith(BEARER_PREFIX)
+                && SecurityContextHolder.getContext().getAuthentication() == null) {
+            // 이미 검증한 토큰은 캐시된 클레임을 사용하고, 처음 보는 토큰만 한 번 파싱해 검증합니다.
+            long start = System.nanoTime();
+            Optional<Claims> claims = verifiedTokenCache.verify(authHeader.substring(BEARER_PREFIX.length()));
+            (claims.isPresent() ? validTokenTimer : invalidTokenTimer).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            if (claims.isEmpty()) {
+                logger.debug("JWT 토큰 검증 실패");
+            } else if (tokenRevocationService.isRevoked(claims.get().getId(), claims.get().getExpiration())) {
+                logger.debug("폐기된 JWT 토큰");
+            } else {
+                JwtPrincipal principal = resolvePrincipal(claims.get(), request.getServletPath());
+                if (principal != null) {
                     UsernamePasswordAuthenticationToken authToken = 
-                        new UsernamePasswordAuthenticationToken(user, null, new ArrayList<>());
+                        new UsernamePasswordAuthenticationToken(principal, null, principal.authorities());
                     SecurityContextHolder.getContext().setAuthentication(authToken);
+                    request.setAttribute("userId", principal.userId());
                 }
             }
         }
         
         filterChain.doFilter(request, response);
     }
-}
\ No newline at end of file
+    
+    /**
+     * 보통은 클레임만으로 인증 주체를 만듭니다.
+     * DB 확인 경로이거나 사용자 ID 클레임이 없는 이전 형식의 토큰이면 사용자 테이블에서 존재 여부를 확인합니다.
+     * 이 확인은 사용자 조회 캐시를 거치지 않으므로 삭제·변경된 사용자가 즉시 반영됩니다.
+     */
+    private JwtPrincipal resolvePrincipal(Claims claims, String path) {
+        JwtPrincipal principal = JwtPrincipal.from(claims);
+        if (principal != null && !matchesAny(dbCheckPaths, path)) {
+            return principal;
+        }
+        
+        String email = claims.getSubject();
+        if (email == null) {
+            return null;
+        }
+        return userRepository.findByEmailUncached(email)
+            .filter(user -> principal == null || user.getId().equals(principal.userId()))
+            .map(user -> JwtPrincipal.from(user, principal != null ? principal.roles() : List.of()))
+            .orElse(null);
+    }
+    
+    private static boolean matchesAny(String[] patterns, String path) {
+        for (String pattern : patterns) {
+            if (PATH_MATCHER.match(pattern, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,109 @@
+package com.ezlevup.jober.filter;
+
+import com.ezlevup.jober.config.RateLimitProperties;
+import com.ezlevup.jober.dto.ApiResponse;
+import com.ezlevup.jober.util.RateLimiter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 설정된 경로의 요청 수를 사용자 ID 또는 클라이언트 IP 별로 제한합니다.
+ * {@link JwtAuthenticationFilter} 다음에 실행되어 인증된 요청은 사용자 ID 로 구분하며,
+ * 허용량을 넘으면 429 와 함께 다음 요청이 허용될 때까지의 초를 {@code Retry-After} 헤더로 알려 줍니다.
+ * 프록시 뒤에서는 {@code server.forward-headers-strategy} 로 실제 클라이언트 IP 가 전달되도록 설정해야 합니다.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+    
+    private static final PathMatcher PATH_MATCHER = new AntPathMatcher();
+    
+    private record Route(RateLimitProperties.Route config, RateLimiter limiter, Counter rejected) {
+    }
+    
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final List<Route> routes;
+    
+    public RateLimitFilter(RateLimitProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.enabled = properties.isEnabled();
+        this.routes = properties.getRoutes().stream()
+            .map(route -> new Route(route,
+                new RateLimiter(route.getPermits(), route.getPeriod(), route.getBurst(), properties.getMaxKeys()),
+                meterRegistry.counter("rate.limit.rejected", "route", route.getPath())))
+            .toList();
+    }
+    
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || routes.isEmpty();
+    }
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                  HttpServletResponse response,
+                                  FilterChain filterChain) throws ServletException, IOException {
+        Route route = findRoute(request);
+        if (route != null) {
+            long waitNanos = route.limiter().tryAcquire(clientKey(route.config(), request));
+            if (waitNanos > 0) {
+                route.rejected().increment();
+                reject(response, waitNanos);
+                return;
+            }
+        }
+        
+        filterChain.doFilter(request, response);
+    }
+    
+    private Route findRoute(HttpServletRequest request) {
+        String path = request.getServletPath();
+        for (Route route : routes) {
+            String method = route.config().getMethod();
+            if ((method == null || method.isBlank() || method.equalsIgnoreCase(request.getMethod()))
+                    && PATH_MATCHER.match(route.config().getPath(), path)) {
+                return route;
+            }
+        }
+        return null;
+    }
+    
+    private String clientKey(RateLimitProperties.Route route, HttpServletRequest request) {
+        if (route.getKey() == RateLimitProperties.KeyType.USER) {
+            Object userId = request.getAttribute("userId");
+            if (userId != null) {
+                return "user:" + userId;
+            }
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+    
+    private void reject(HttpServletResponse response, long waitNanos) throws IOException {
+        long retryAfterSeconds = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+        logger.debug("Rate limit exceeded, retry after " + retryAfterSeconds + "s");
+        
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(),
+            ApiResponse.failure("요청이 너무 많습니다. 잠시 후 다시 시도해주세요."));
+    }
+}
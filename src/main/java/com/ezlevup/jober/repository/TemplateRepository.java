@@ -0,0 +1,29 @@
+package com.ezlevup.jober.repository;
+
+import com.ezlevup.jober.entity.Template;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface TemplateRepository extends JpaRepository<Template, Long> {
+    
+    @Query("SELECT t FROM Template t WHERE t.userId = :userId ORDER BY t.createdAt DESC, t.id DESC")
+    List<Template> findLatestByUserId(@Param("userId") Long userId, Limit limit);
+    
+    @Query("SELECT t FROM Template t WHERE t.userId = :userId " +
+           "AND (t.createdAt < :createdAt OR (t.createdAt = :createdAt AND t.id < :id)) " +
+           "ORDER BY t.createdAt DESC, t.id DESC")
+    List<Template> findLatestByUserIdBefore(@Param("userId") Long userId,
+                                            @Param("createdAt") LocalDateTime createdAt,
+                                            @Param("id") Long id,
+                                            Limit limit);
+    
+    Optional<Template> findByIdAndUserId(Long id, Long userId);
+}
@@ -1,17 +1,100 @@
 package com.ezlevup.jober.repository;
 
+import com.ezlevup.jober.config.CacheConfig;
 import com.ezlevup.jober.entity.User;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
+import java.util.stream.Stream;
 
+/**
+ * 이메일·ID 로 조회한 사용자는 캐시하고, 저장 시 두 캐시를 함께 갱신합니다.
+ * 캐시에는 사본이 들어가고 조회할 때마다 새 사본을 돌려주므로, 조회 결과를 수정해도 캐시에는 save 로 반영해야만 적용됩니다.
+ */
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     
+    @Cacheable(cacheNames = CacheConfig.USERS_BY_EMAIL, key = "#p0", unless = "#result == null")
     Optional<User> findByEmail(String email);
     
+    @Override
+    @Cacheable(cacheNames = CacheConfig.USERS_BY_ID, key = "#p0", unless = "#result == null")
+    Optional<User> findById(Long id);
+    
+    /**
+     * 캐시를 거치지 않고 이메일로 사용자를 조회합니다.
+     * {@code jwt.db-check-paths} 인증처럼 삭제·변경된 사용자가 바로 반영되어야 하는 확인에 사용합니다.
+     */
+    @Query("select u from User u where u.email = :email")
+    Optional<User> findByEmailUncached(@Param("email") String email);
+    
     boolean existsByEmail(String email);
     
     boolean existsByNickname(String nickname);
-}
\ No newline at end of file
+    
+    /** 가입 중복 확인용 이메일·닉네임 (엔티티 전체를 읽지 않음) */
+    interface Identity {
+        String getEmail();
+        String getNickname();
+    }
+    
+    /** 이메일·닉네임 사용 여부 (1 이면 사용 중) */
+    interface TakenFlags {
+        Integer getEmailTaken();
+        Integer getNicknameTaken();
+    }
+    
+    /**
+     * 모든 사용자의 이메일·닉네임을 스트림으로 읽습니다. 트랜잭션 안에서 사용하고 다 쓴 뒤 닫아야 합니다.
+     */
+    @Query("select u.email as email, u.nickname as nickname from User u")
+    Stream<Identity> streamIdentities();
+    
+    /**
+     * 이메일과 닉네임 사용 여부를 한 번의 쿼리로 확인합니다. 확인할 필요가 없는 쪽은 null 로 넘깁니다.
+     */
+    @Query("select coalesce(max(case when u.email = :email then 1 else 0 end), 0) as emailTaken, "
+        + "coalesce(max(case when u.nickname = :nickname then 1 else 0 end), 0) as nicknameTaken "
+        + "from User u where u.email = :email or u.nickname = :nickname")
+    TakenFlags findTakenFlags(@Param("email") String email, @Param("nickname") String nickname);
+    
+    @Override
+    @Caching(put = {
+        @CachePut(cacheNames = CacheConfig.USERS_BY_EMAIL, key = "#result.email"),
+        @CachePut(cacheNames = CacheConfig.USERS_BY_ID, key = "#result.id")
+    })
+    <S extends User> S save(S user);
+    
+    @Override
+    @Caching(put = {
+        @CachePut(cacheNames = CacheConfig.USERS_BY_EMAIL, key = "#result.email"),
+        @CachePut(cacheNames = CacheConfig.USERS_BY_ID, key = "#result.id")
+    })
+    <S extends User> S saveAndFlush(S user);
+    
+    @Override
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheConfig.USERS_BY_EMAIL, key = "#p0.email"),
+        @CacheEvict(cacheNames = CacheConfig.USERS_BY_ID, key = "#p0.id")
+    })
+    void delete(User user);
+    
+    @Override
+    @CacheEvict(cacheNames = {CacheConfig.USERS_BY_EMAIL, CacheConfig.USERS_BY_ID}, allEntries = true)
+    void deleteById(Long id);
+    
+    @Override
+    @CacheEvict(cacheNames = {CacheConfig.USERS_BY_EMAIL, CacheConfig.USERS_BY_ID}, allEntries = true)
+    void deleteAll(Iterable<? extends User> users);
+    
+    @Override
+    @CacheEvict(cacheNames = {CacheConfig.USERS_BY_EMAIL, CacheConfig.USERS_BY_ID}, allEntries = true)
+    void deleteAll();
+}
@@ -0,0 +1,246 @@
+package com.ezlevup.jober.security;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.Keys;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.EdECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.KeySpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * JWT 서명·검증 키 모음입니다. 토큰 헤더의 kid 로 검증 키를 찾고, 활성 키 하나로 새 토큰에 서명합니다.
+ *
+ * <p>키 저장소 디렉터리({@code jwt.keystore.dir})의 파일 형식:
+ * <ul>
+ *   <li>{@code <kid>.hmac} - HMAC 비밀값 (UTF-8 텍스트, 32바이트 이상). 서명·검증 모두 사용</li>
+ *   <li>{@code <kid>.private.pem} - Ed25519 또는 RSA 개인 키 (PKCS#8). 서명용</li>
+ *   <li>{@code <kid>.public.pem} - 대응하는 공개 키 (X.509). 검증용, JWKS 로 공개</li>
+ *   <li>{@code active-kid} - 새 토큰에 서명할 kid</li>
+ * </ul>
+ * 디렉터리는 주기적으로 확인해 바뀐 경우에만 다시 읽으며, 읽기에 실패하면 기존 키를 계속 사용합니다.
+ * kid 가 없는 이전 토큰은 {@code jwt.secret} 키({@value #LEGACY_KID})로 검증합니다.
+ */
+@Component
+public class JwtKeyRing extends LocatorAdapter<Key> {
+
+    private static final Logger logger = LoggerFactory.getLogger(JwtKeyRing.class);
+
+    public static final String LEGACY_KID = "legacy";
+
+    private static final String ACTIVE_KID_FILE = "active-kid";
+    private static final String HMAC_SUFFIX = ".hmac";
+    private static final String PRIVATE_KEY_SUFFIX = ".private.pem";
+    private static final String PUBLIC_KEY_SUFFIX = ".public.pem";
+    private static final String[] ASYMMETRIC_ALGORITHMS = {"Ed25519", "RSA"};
+
+    public record SigningKey(String kid, Key key) {
+    }
+
+    // 한 번 만든 뒤에는 바꾸지 않고, 다시 읽을 때 통째로 교체합니다.
+    private record Snapshot(SigningKey active, Map<String, Key> verificationKeys, String fingerprint) {
+    }
+
+    private final Key legacyKey;
+    private final Path directory;
+    private volatile Snapshot snapshot;
+
+    public JwtKeyRing(@Value("${jwt.secret:mySecretKeyForJWTTokenGenerationThatShouldBeAtLeast32Characters}") String secret,
+                      @Value("${jwt.keystore.dir:}") String directory,
+                      @Value("${jwt.keystore.legacy-enabled:true}") boolean legacyEnabled) {
+        this.legacyKey = legacyEnabled ? Keys.hmacShaKeyFor(secret.getBytes()) : null;
+        this.directory = directory == null || directory.isBlank() ? null : Path.of(directory);
+        try {
+            this.snapshot = load(fingerprint());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load JWT key ring from " + directory, e);
+        }
+        logger.info("Loaded JWT key ring: active={}, keys={}",
+            snapshot.active().kid(), snapshot.verificationKeys().keySet());
+    }
+
+    public SigningKey activeKey() {
+        return snapshot.active();
+    }
+
+    /**
+     * 토큰 헤더의 kid 로 검증 키를 찾습니다. kid 가 없으면 이전 형식({@value #LEGACY_KID}) 토큰으로 봅니다.
+     */
+    @Override
+    protected Key locate(JwsHeader header) {
+        String kid = header.getKeyId() != null ? header.getKeyId() : LEGACY_KID;
+        Key key = snapshot.verificationKeys().get(kid);
+        if (key == null) {
+            throw new UnsupportedJwtException("Unknown JWT key id: " + kid);
+        }
+        return key;
+    }
+
+    /**
+     * 외부 노드가 비밀값 없이 토큰을 검증할 수 있도록 비대칭 공개 키를 JWK 형식으로 반환합니다.
+     */
+    public List<Map<String, Object>> publicJwks() {
+        List<Map<String, Object>> keys = new ArrayList<>();
+        for (Map.Entry<String, Key> entry : new TreeMap<>(snapshot.verificationKeys()).entrySet()) {
+            Map<String, Object> jwk = new LinkedHashMap<>();
+            if (entry.getValue() instanceof RSAPublicKey rsa) {
+                jwk.put("kty", "RSA");
+                jwk.put("kid", entry.getKey());
+                jwk.put("use", "sig");
+                jwk.put("alg", "RS256");
+                jwk.put("n", base64Url(rsa.getModulus()));
+                jwk.put("e", base64Url(rsa.getPublicExponent()));
+            } else if (entry.getValue() instanceof EdECPublicKey ed) {
+                byte[] encoded = ed.getEncoded();
+                jwk.put("kty", "OKP");
+                jwk.put("kid", entry.getKey());
+                jwk.put("use", "sig");
+                jwk.put("alg", "EdDSA");
+                jwk.put("crv", "Ed25519");
+                // X.509 인코딩의 마지막 32바이트가 Ed25519 공개 키 원문입니다.
+                jwk.put("x", Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(Arrays.copyOfRange(encoded, encoded.length - 32, encoded.length)));
+            } else {
+                continue;
+            }
+            keys.add(jwk);
+        }
+        return keys;
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.keystore.reload-interval:PT1M}",
+               initialDelayString = "${jwt.keystore.reload-interval:PT1M}")
+    public void reload() {
+        if (directory == null) {
+            return;
+        }
+        try {
+            String fingerprint = fingerprint();
+            if (fingerprint.equals(snapshot.fingerprint())) {
+                return;
+            }
+            snapshot = load(fingerprint);
+            logger.info("Reloaded JWT key ring: active={}, keys={}",
+                snapshot.active().kid(), snapshot.verificationKeys().keySet());
+        } catch (Exception e) {
+            logger.warn("Failed to reload JWT key ring, keeping current keys: {}", e.getMessage());
+        }
+    }
+
+    private Snapshot load(String fingerprint) throws IOException {
+        Map<String, Key> signingKeys = new HashMap<>();
+        Map<String, Key> verificationKeys = new HashMap<>();
+        if (legacyKey != null) {
+            signingKeys.put(LEGACY_KID, legacyKey);
+            verificationKeys.put(LEGACY_KID, legacyKey);
+        }
+
+        String activeKid = LEGACY_KID;
+        if (directory != null) {
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+                for (Path file : files) {
+                    String name = file.getFileName().toString();
+                    if (name.endsWith(HMAC_SUFFIX)) {
+                        String kid = name.substring(0, name.length() - HMAC_SUFFIX.length());
+                        Key key = Keys.hmacShaKeyFor(Files.readString(file).trim().getBytes(StandardCharsets.UTF_8));
+                        signingKeys.put(kid, key);
+                        verificationKeys.put(kid, key);
+                    } else if (name.endsWith(PRIVATE_KEY_SUFFIX)) {
+                        String kid = name.substring(0, name.length() - PRIVATE_KEY_SUFFIX.length());
+                        signingKeys.put(kid, (PrivateKey) readPem(file, true));
+                    } else if (name.endsWith(PUBLIC_KEY_SUFFIX)) {
+                        String kid = name.substring(0, name.length() - PUBLIC_KEY_SUFFIX.length());
+                        verificationKeys.put(kid, (PublicKey) readPem(file, false));
+                    }
+                }
+            }
+
+            Path activeKidFile = directory.resolve(ACTIVE_KID_FILE);
+            if (Files.exists(activeKidFile)) {
+                activeKid = Files.readString(activeKidFile).trim();
+            }
+        }
+
+        Key activeKey = signingKeys.get(activeKid);
+        if (activeKey == null) {
+            throw new IllegalStateException("Active JWT signing key not found: " + activeKid);
+        }
+        if (!verificationKeys.containsKey(activeKid)) {
+            throw new IllegalStateException("Verification key for active kid not found: " + activeKid);
+        }
+        return new Snapshot(new SigningKey(activeKid, activeKey), Map.copyOf(verificationKeys), fingerprint);
+    }
+
+    private Key readPem(Path file, boolean privateKey) throws IOException {
+        StringBuilder base64 = new StringBuilder();
+        for (String line : Files.readAllLines(file, StandardCharsets.US_ASCII)) {
+            if (!line.startsWith("-----")) {
+                base64.append(line.trim());
+            }
+        }
+        byte[] der = Base64.getDecoder().decode(base64.toString());
+        KeySpec spec = privateKey ? new PKCS8EncodedKeySpec(der) : new X509EncodedKeySpec(der);
+
+        for (String algorithm : ASYMMETRIC_ALGORITHMS) {
+            try {
+                KeyFactory factory = KeyFactory.getInstance(algorithm);
+                return privateKey ? factory.generatePrivate(spec) : factory.generatePublic(spec);
+            } catch (GeneralSecurityException e) {
+                // 다음 알고리즘으로 시도합니다.
+            }
+        }
+        throw new IOException("Unsupported key in " + file + " (expected Ed25519 or RSA)");
+    }
+
+    // 파일 이름·크기·수정 시각이 바뀌었을 때만 다시 읽습니다.
+    private String fingerprint() throws IOException {
+        if (directory == null) {
+            return "";
+        }
+        TreeMap<String, String> entries = new TreeMap<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                entries.put(file.getFileName().toString(),
+                    Files.size(file) + ":" + Files.getLastModifiedTime(file).toMillis());
+            }
+        }
+        return entries.toString();
+    }
+
+    private static String base64Url(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        // 부호 비트용 선행 0 바이트는 JWK 표현에 포함하지 않습니다.
+        if (bytes.length > 1 && bytes[0] == 0) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
@@ -0,0 +1,61 @@
+package com.ezlevup.jober.security;
+
+import com.ezlevup.jober.entity.User;
+import io.jsonwebtoken.Claims;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * JWT 클레임만으로 만든 인증 주체입니다. 요청마다 사용자 테이블을 조회하지 않기 위해 사용합니다.
+ * 닉네임과 역할은 토큰 발급 시점의 값이므로, 최신 값이 필요한 경로는 {@code jwt.db-check-paths} 로 DB 확인을 강제합니다.
+ */
+public record JwtPrincipal(Long userId, String email, String nickname, List<String> roles) implements Principal {
+
+    public static final String CLAIM_USER_ID = "userId";
+    public static final String CLAIM_NICKNAME = "nickname";
+    public static final String CLAIM_ROLES = "roles";
+
+    public JwtPrincipal {
+        roles = roles == null ? List.of() : List.copyOf(roles);
+    }
+
+    /**
+     * 검증된 클레임에서 주체를 만듭니다. 사용자 ID 클레임이 없는 토큰이면 {@code null} 입니다.
+     */
+    public static JwtPrincipal from(Claims claims) {
+        Long userId = claims.get(CLAIM_USER_ID, Long.class);
+        if (userId == null || claims.getSubject() == null) {
+            return null;
+        }
+
+        List<String> roles = new ArrayList<>();
+        if (claims.get(CLAIM_ROLES) instanceof Collection<?> values) {
+            for (Object value : values) {
+                roles.add(String.valueOf(value));
+            }
+        }
+        return new JwtPrincipal(userId, claims.getSubject(), claims.get(CLAIM_NICKNAME, String.class), roles);
+    }
+
+    public static JwtPrincipal from(User user, List<String> roles) {
+        return new JwtPrincipal(user.getId(), user.getEmail(), user.getNickname(), roles);
+    }
+
+    public List<GrantedAuthority> authorities() {
+        List<GrantedAuthority> authorities = new ArrayList<>(roles.size());
+        for (String role : roles) {
+            authorities.add(new SimpleGrantedAuthority("ROLE_" + role));
+        }
+        return authorities;
+    }
+
+    @Override
+    public String getName() {
+        return email;
+    }
+}
@@ -0,0 +1,70 @@
+package com.ezlevup.jober.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 동일한 요청 키로 동시에 들어온 AI 호출을 하나로 합칩니다 (single-flight).
+ * 먼저 도착한 호출만 AI 서버로 나가고, 진행 중에 도착한 호출은 그 결과나 예외를 함께 받습니다.
+ */
+@Component
+public class AiRequestCoalescer {
+
+    private final ConcurrentHashMap<TemplateRequestKey, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder upstreamCalls = new LongAdder();
+    private final LongAdder coalescedCalls = new LongAdder();
+
+    public String execute(TemplateRequestKey key, Supplier<String> call) {
+        CompletableFuture<String> created = new CompletableFuture<>();
+        CompletableFuture<String> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            coalescedCalls.increment();
+            return await(existing);
+        }
+
+        upstreamCalls.increment();
+        try {
+            String result = call.get();
+            created.complete(result);
+            return result;
+        } catch (Throwable t) {
+            created.completeExceptionally(t);
+            throw t;
+        } finally {
+            inFlight.remove(key, created);
+        }
+    }
+
+    private String await(CompletableFuture<String> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    /** AI 서버로 실제 전송된 호출 수 */
+    public long getUpstreamCalls() {
+        return upstreamCalls.sum();
+    }
+
+    /** 진행 중인 호출에 합류해 AI 서버 호출을 생략한 횟수 */
+    public long getCoalescedCalls() {
+        return coalescedCalls.sum();
+    }
+
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+}
@@ -0,0 +1,126 @@
+package com.ezlevup.jober.service;
+
+import com.ezlevup.jober.service.TemplateService.AITemplateRequest;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * AI 서버의 템플릿 생성 API 호출을 담당합니다.
+ * 소켓 단위 타임아웃과 별개로, 호출 전체에 total-timeout 마감 시간을 적용합니다.
+ * 모든 호출은 서킷 브레이커와 벌크헤드를 거치며, 서킷이 열려 있거나 동시 호출 한도를 넘으면
+ * CallNotPermittedException / BulkheadFullException 이 즉시 발생합니다.
+ * 응답 본문이 완결된 JSON 객체가 아니면(연결이 끊겨 잘린 응답 등) 실패로 처리하므로
+ * 서킷 브레이커에 실패로 기록되고 캐시에 저장되지 않습니다.
+ */
+@Component
+public class AiTemplateClient {
+
+    private static final Logger logger = LoggerFactory.getLogger(AiTemplateClient.class);
+
+    private final RestTemplate aiRestTemplate;
+    private final CircuitBreaker aiCircuitBreaker;
+    private final Bulkhead aiBulkhead;
+    private final String apiUrl;
+    private final Duration totalTimeout;
+    private final ObjectMapper objectMapper;
+    // 가상 스레드에서 블로킹 소켓 I/O 는 인터럽트로 중단되므로, 마감 시간 초과 시 연결까지 정리됩니다.
+    private final ExecutorService executor =
+        Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("ai-call-", 0).factory());
+
+    public AiTemplateClient(@Qualifier("aiRestTemplate") RestTemplate aiRestTemplate,
+                            CircuitBreaker aiCircuitBreaker,
+                            Bulkhead aiBulkhead,
+                            @Value("${ai.client.url:http://localhost:8000/generate-template}") String apiUrl,
+                            @Value("${ai.client.total-timeout:PT45S}") Duration totalTimeout,
+                            ObjectMapper objectMapper) {
+        this.aiRestTemplate = aiRestTemplate;
+        this.aiCircuitBreaker = aiCircuitBreaker;
+        this.aiBulkhead = aiBulkhead;
+        this.apiUrl = apiUrl;
+        this.totalTimeout = totalTimeout;
+        this.objectMapper = objectMapper;
+    }
+
+    public String generateTemplate(AITemplateRequest aiRequest) {
+        return aiCircuitBreaker.executeSupplier(
+            () -> aiBulkhead.executeSupplier(() -> requireWellFormed(callWithDeadline(aiRequest)))
+        );
+    }
+
+    // 빈 응답은 호출한 쪽에서 처리합니다.
+    private String requireWellFormed(String response) {
+        if (response == null || response.isEmpty() || isWellFormed(objectMapper, response)) {
+            return response;
+        }
+        throw new RestClientException("AI API returned malformed JSON (" + response.length() + " chars)");
+    }
+
+    /**
+     * 트리를 만들지 않고 토큰만 훑어 응답이 최상위 JSON 객체 하나로 끝나는지 확인합니다.
+     */
+    static boolean isWellFormed(ObjectMapper objectMapper, String response) {
+        try (JsonParser parser = objectMapper.getFactory().createParser(response)) {
+            if (parser.nextToken() == JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                return parser.nextToken() == null;
+            }
+        } catch (IOException e) {
+            logger.warn("AI API returned malformed JSON: {}", e.getMessage());
+        }
+        return false;
+    }
+
+    private String callWithDeadline(AITemplateRequest aiRequest) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        HttpEntity<AITemplateRequest> requestEntity = new HttpEntity<>(aiRequest, headers);
+
+        logger.info("Calling AI API at: {}", apiUrl);
+        Future<String> call = executor.submit(() -> aiRestTemplate.postForObject(apiUrl, requestEntity, String.class));
+
+        try {
+            return call.get(totalTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            call.cancel(true);
+            throw new ResourceAccessException("AI API call exceeded total timeout of " + totalTimeout);
+        } catch (InterruptedException e) {
+            call.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ResourceAccessException("Interrupted while waiting for AI API response");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("AI API call failed", e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,83 @@
+package com.ezlevup.jober.service;
+
+import com.ezlevup.jober.util.AhoCorasickMatcher;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * AI 서버 장애 시 사용하는 폴백 템플릿을 선택합니다.
+ * 템플릿과 키워드 표는 기동 시 한 번만 읽어 직렬화해 두고, 프롬프트는 Aho-Corasick 오토마톤으로 한 번만 훑어
+ * 목록에서 가장 앞선(우선순위가 높은) 템플릿을 고릅니다. 요청마다 문자열을 조립하지 않습니다.
+ */
+@Component
+public class FallbackTemplateEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(FallbackTemplateEngine.class);
+
+    public record FallbackTemplate(String id, String json) {
+    }
+
+    private final List<FallbackTemplate> templates;
+    private final FallbackTemplate defaultTemplate;
+    private final AhoCorasickMatcher matcher;
+
+    public FallbackTemplateEngine(ObjectMapper objectMapper,
+                                  ResourceLoader resourceLoader,
+                                  @Value("${template.fallback.location:classpath:fallback/templates.json}") String location) throws IOException {
+        Resource resource = resourceLoader.getResource(location);
+        JsonNode root;
+        try (InputStream inputStream = resource.getInputStream()) {
+            root = objectMapper.readTree(inputStream);
+        }
+
+        List<FallbackTemplate> loaded = new ArrayList<>();
+        Map<String, Integer> keywordPriorities = new LinkedHashMap<>();
+        String defaultId = root.path("defaultTemplate").asText(null);
+        FallbackTemplate loadedDefault = null;
+
+        for (JsonNode node : root.path("templates")) {
+            FallbackTemplate template = new FallbackTemplate(
+                node.path("id").asText(),
+                objectMapper.writeValueAsString(node.path("template"))
+            );
+            int priority = loaded.size();
+            loaded.add(template);
+
+            for (JsonNode keyword : node.path("keywords")) {
+                keywordPriorities.merge(keyword.asText(), priority, Math::min);
+            }
+            if (template.id().equals(defaultId)) {
+                loadedDefault = template;
+            }
+        }
+
+        if (loaded.isEmpty()) {
+            throw new IllegalStateException("No fallback templates defined in " + location);
+        }
+
+        this.templates = List.copyOf(loaded);
+        this.defaultTemplate = loadedDefault != null ? loadedDefault : loaded.get(loaded.size() - 1);
+        this.matcher = new AhoCorasickMatcher(keywordPriorities);
+
+        logger.info("Loaded {} fallback templates with {} keywords from {}",
+            templates.size(), keywordPriorities.size(), location);
+    }
+
+    public FallbackTemplate select(String prompt) {
+        int priority = matcher.match(prompt);
+        return priority == AhoCorasickMatcher.NO_MATCH ? defaultTemplate : templates.get(priority);
+    }
+}
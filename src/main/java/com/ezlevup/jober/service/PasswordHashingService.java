@@ -0,0 +1,181 @@
+package com.ezlevup.jober.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * BCrypt 해시 계산을 전용 스레드 풀에서 실행하는 {@link PasswordEncoder} 입니다.
+ * 스레드 수는 기본적으로 CPU 코어 수의 절반, 대기열 길이는 queue-capacity 로 제한하므로 로그인이 몰려도 해시 계산이
+ * 모든 코어를 차지하지 않고, 대기열이 가득 차면 {@link RejectedExecutionException} 으로 즉시 거절합니다.
+ *
+ * <p>BCrypt 비용은 {@code security.password.bcrypt.strength} 로 고정합니다. 0 이면 기동 시 현재 하드웨어에서
+ * 해시 한 번이 target-duration 을 넘지 않는 가장 큰 값을 측정해 정하지만, 측정값은 장비와 기동마다 달라질 수 있으므로
+ * 개발 환경에서 적정 값을 찾는 용도로만 사용합니다.
+ */
+@Service
+public class PasswordHashingService implements PasswordEncoder {
+
+    private static final Logger logger = LoggerFactory.getLogger(PasswordHashingService.class);
+
+    private static final String CALIBRATION_PASSWORD = "calibration-password";
+    private static final int CALIBRATION_ROUNDS = 3;
+
+    private final int strength;
+    private final BCryptPasswordEncoder encoder;
+    private final ThreadPoolExecutor executor;
+    private final Duration timeout;
+    private final Duration retryAfter;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejectedCounter;
+
+    public PasswordHashingService(@Value("${security.password.bcrypt.strength:0}") int strength,
+                                  @Value("${security.password.bcrypt.target-duration:PT0.25S}") Duration targetDuration,
+                                  @Value("${security.password.bcrypt.min-strength:10}") int minStrength,
+                                  @Value("${security.password.bcrypt.max-strength:14}") int maxStrength,
+                                  @Value("${security.password.hashing.threads:0}") int threads,
+                                  @Value("${security.password.hashing.queue-capacity:64}") int queueCapacity,
+                                  @Value("${security.password.hashing.timeout:PT5S}") Duration timeout,
+                                  @Value("${security.password.hashing.retry-after:PT1S}") Duration retryAfter,
+                                  MeterRegistry meterRegistry) {
+        this.strength = strength > 0 ? strength : calibrate(targetDuration, minStrength, maxStrength);
+        this.encoder = new BCryptPasswordEncoder(this.strength);
+        this.timeout = timeout;
+        this.retryAfter = retryAfter;
+
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            Thread.ofPlatform().name("password-hash-", 0).daemon(true).factory(),
+            new ThreadPoolExecutor.AbortPolicy());
+
+        // 해시 계산 자체의 시간 (대기열에서 기다린 시간 제외)
+        this.encodeTimer = meterRegistry.timer("password.hashing", "operation", "encode");
+        this.matchesTimer = meterRegistry.timer("password.hashing", "operation", "matches");
+        this.rejectedCounter = meterRegistry.counter("password.hashing.rejected");
+        Gauge.builder("password.hashing.pending", this, PasswordHashingService::pendingTasks).register(meterRegistry);
+
+        logger.info("Password hashing: bcrypt strength={}, threads={}, queue-capacity={}",
+            this.strength, poolSize, queueCapacity);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(encodeTimer, () -> encoder.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(matchesTimer, () -> encoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 저장된 해시의 비용이 현재 설정보다 낮으면 {@code true} 입니다. 더 높은 비용은 그대로 두므로
+     * 비용 설정이 다른 인스턴스가 섞여 있어도 로그인마다 해시가 오가며 다시 계산되지 않습니다.
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return encodedPassword != null && costOf(encodedPassword) < strength;
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    /** 과부하로 거절했을 때 클라이언트에 알려 줄 재시도 대기 시간 (초) */
+    public long retryAfterSeconds() {
+        return Math.max(1, retryAfter.toSeconds());
+    }
+
+    /** 실행 중이거나 대기열에 있는 해시 작업 수 */
+    public int pendingTasks() {
+        return executor.getActiveCount() + executor.getQueue().size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> T execute(Timer timer, Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> timer.recordCallable(task));
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw e;
+        }
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedCounter.increment();
+            throw new RejectedExecutionException("Password hashing timed out after " + timeout);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted while waiting for password hashing");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    // BCrypt 해시 형식: $2a$<비용 2자리>$<salt+hash>
+    static int costOf(String encodedPassword) {
+        if (encodedPassword.length() < 7 || encodedPassword.charAt(0) != '$' || encodedPassword.charAt(6) != '$') {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(encodedPassword, 4, 6, 10);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    // 최소 비용으로 몇 번 재어 가장 빠른 값을 기준으로 삼고, 비용이 1 오를 때마다 시간이 두 배가 되는 것으로 추정합니다.
+    static int calibrate(Duration target, int minStrength, int maxStrength) {
+        BCrypt.hashpw(CALIBRATION_PASSWORD, BCrypt.gensalt(minStrength));
+
+        long fastest = Long.MAX_VALUE;
+        for (int i = 0; i < CALIBRATION_ROUNDS; i++) {
+            long start = System.nanoTime();
+            BCrypt.hashpw(CALIBRATION_PASSWORD, BCrypt.gensalt(minStrength));
+            fastest = Math.min(fastest, System.nanoTime() - start);
+        }
+
+        int cost = minStrength;
+        long estimate = fastest;
+        while (cost < maxStrength && estimate * 2 <= target.toNanos()) {
+            cost++;
+            estimate *= 2;
+        }
+
+        logger.warn("Calibrated bcrypt strength {} (cost {} took {} ms, target {} ms); "
+                + "pin security.password.bcrypt.strength so all instances use the same cost",
+            cost, minStrength, TimeUnit.NANOSECONDS.toMillis(fastest), target.toMillis());
+        return cost;
+    }
+}
@@ -0,0 +1,150 @@
+package com.ezlevup.jober.service;
+
+import com.ezlevup.jober.entity.RefreshToken;
+import com.ezlevup.jober.entity.User;
+import com.ezlevup.jober.repository.RefreshTokenRepository;
+import com.ezlevup.jober.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 리프레시 토큰을 발급하고 교체합니다.
+ * 토큰은 한 번만 사용할 수 있으며, 사용할 때마다 같은 family 의 새 토큰으로 교체됩니다.
+ * 이미 교체된 토큰이 다시 오면 탈취된 것으로 보고 family 전체를 폐기합니다.
+ * 재발급은 토큰 해시 조회와 조건부 UPDATE 만으로 처리하며 비밀번호 해시 검증을 하지 않습니다.
+ */
+@Service
+public class RefreshTokenService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(RefreshTokenService.class);
+    
+    private static final int TOKEN_BYTES = 32;
+    
+    public record Rotation(User user, String refreshToken) {
+    }
+    
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserRepository userRepository;
+    private final Duration ttl;
+    private final SecureRandom secureRandom = new SecureRandom();
+    
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository,
+                               UserRepository userRepository,
+                               @Value("${jwt.refresh.ttl:P14D}") Duration ttl) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.userRepository = userRepository;
+        this.ttl = ttl;
+    }
+    
+    /**
+     * 로그인한 사용자에게 새 family 의 리프레시 토큰을 발급합니다.
+     */
+    @Transactional
+    public String issue(User user) {
+        return issue(user.getId(), UUID.randomUUID().toString());
+    }
+    
+    /**
+     * 리프레시 토큰을 사용 처리하고 같은 family 의 새 토큰을 발급합니다.
+     * 토큰이 없거나, 만료되었거나, 폐기되었거나, 이미 사용된 경우 빈 값을 반환합니다.
+     */
+    @Transactional
+    public Optional<Rotation> rotate(String rawToken) {
+        if (rawToken == null || rawToken.isBlank()) {
+            return Optional.empty();
+        }
+        
+        Optional<RefreshToken> found = refreshTokenRepository.findByTokenHash(hash(rawToken));
+        if (found.isEmpty()) {
+            return Optional.empty();
+        }
+        
+        RefreshToken token = found.get();
+        LocalDateTime now = nowUtc();
+        if (token.isRevoked() || !token.getExpiresAt().isAfter(now)) {
+            return Optional.empty();
+        }
+        
+        // 동시에 같은 토큰으로 두 번 요청해도 한 쪽만 성공하도록 조건부 UPDATE 로 사용 처리합니다.
+        if (refreshTokenRepository.markUsed(token.getId(), now) == 0) {
+            int revoked = refreshTokenRepository.revokeFamily(token.getFamilyId());
+            logger.warn("Refresh token reuse detected: userId={}, family={}, revoked={}",
+                token.getUserId(), token.getFamilyId(), revoked);
+            return Optional.empty();
+        }
+        
+        Optional<User> user = userRepository.findById(token.getUserId());
+        if (user.isEmpty()) {
+            refreshTokenRepository.revokeFamily(token.getFamilyId());
+            return Optional.empty();
+        }
+        
+        return Optional.of(new Rotation(user.get(), issue(token.getUserId(), token.getFamilyId())));
+    }
+    
+    /**
+     * 리프레시 토큰이 속한 family 를 폐기합니다. (로그아웃)
+     */
+    @Transactional
+    public void revoke(String rawToken) {
+        if (rawToken == null || rawToken.isBlank()) {
+            return;
+        }
+        refreshTokenRepository.findByTokenHash(hash(rawToken))
+            .ifPresent(token -> refreshTokenRepository.revokeFamily(token.getFamilyId()));
+    }
+    
+    @Scheduled(fixedDelayString = "${jwt.refresh.purge-interval:PT1H}",
+               initialDelayString = "${jwt.refresh.purge-interval:PT1H}")
+    public void purgeExpired() {
+        try {
+            int deleted = refreshTokenRepository.deleteExpired(nowUtc());
+            if (deleted > 0) {
+                logger.debug("Deleted {} expired refresh tokens", deleted);
+            }
+        } catch (Exception e) {
+            logger.warn("Failed to purge expired refresh tokens: {}", e.getMessage());
+        }
+    }
+    
+    private String issue(Long userId, String familyId) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        
+        LocalDateTime now = nowUtc();
+        refreshTokenRepository.save(new RefreshToken(
+            null, userId, familyId, hash(rawToken), now.plus(ttl), now, null, false));
+        return rawToken;
+    }
+    
+    // 토큰 자체가 256비트 난수이므로 솔트 없는 SHA-256 으로 충분하고, 해시로 바로 인덱스 조회할 수 있습니다.
+    private static String hash(String rawToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(rawToken.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+    
+    private static LocalDateTime nowUtc() {
+        return LocalDateTime.now(ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,118 @@
+package com.ezlevup.jober.service;
+
+import com.ezlevup.jober.entity.User;
+import com.ezlevup.jober.repository.UserRepository;
+import com.ezlevup.jober.util.BloomFilter;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.stream.Stream;
+
+/**
+ * 가입에 쓸 이메일·닉네임이 이미 사용 중인지 확인합니다.
+ *
+ * <p>{@link #check} 는 가입 화면의 사용 가능 여부 조회용입니다. 사용 중인 값은 블룸 필터에 담아 두므로,
+ * 필터에 없는 값(대부분의 새 가입)은 DB 조회 없이 사용 가능으로 판별하고 필터가 "있을 수 있음" 이라고 한 값만
+ * 이메일·닉네임을 묶은 쿼리 한 번으로 확인합니다. 필터는 기동 시 전체 사용자로 채우고, 이후 이 인스턴스에서
+ * 저장되는 사용자는 {@link UserAvailabilityListener} 가 추가합니다. 다른 인스턴스가 가입시킨 사용자나 JPA 를 거치지
+ * 않고 추가된 행은 필터에 없으므로, 가입 저장 경로는 항상 DB 로 확인하는 {@link #verify} 를 사용합니다.
+ */
+@Service
+public class SignupAvailabilityService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SignupAvailabilityService.class);
+
+    public record Availability(boolean emailTaken, boolean nicknameTaken) {
+        static final Availability NONE_TAKEN = new Availability(false, false);
+    }
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final long expectedUsers;
+    private final double falsePositiveRate;
+    private volatile BloomFilter emails;
+    private volatile BloomFilter nicknames;
+
+    public SignupAvailabilityService(UserRepository userRepository,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${user.availability.expected-users:1000000}") long expectedUsers,
+                                     @Value("${user.availability.false-positive-rate:0.001}") double falsePositiveRate) {
+        this.userRepository = userRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.expectedUsers = expectedUsers;
+        this.falsePositiveRate = falsePositiveRate;
+        this.emails = new BloomFilter(expectedUsers, falsePositiveRate);
+        this.nicknames = new BloomFilter(expectedUsers, falsePositiveRate);
+    }
+
+    @PostConstruct
+    void load() {
+        // 이미 예상치에 가까운 사용자가 있으면 오탐률이 올라가지 않도록 여유 있게 잡습니다.
+        long capacity = Math.max(expectedUsers, userRepository.count() * 2);
+        BloomFilter loadedEmails = new BloomFilter(capacity, falsePositiveRate);
+        BloomFilter loadedNicknames = new BloomFilter(capacity, falsePositiveRate);
+
+        long loaded = readOnlyTransaction.execute(status -> {
+            long count = 0;
+            try (Stream<UserRepository.Identity> identities = userRepository.streamIdentities()) {
+                for (UserRepository.Identity identity : (Iterable<UserRepository.Identity>) identities::iterator) {
+                    loadedEmails.put(identity.getEmail());
+                    loadedNicknames.put(identity.getNickname());
+                    count++;
+                }
+            }
+            return count;
+        });
+
+        emails = loadedEmails;
+        nicknames = loadedNicknames;
+        logger.info("Loaded {} users into signup availability filters (capacity {})", loaded, capacity);
+    }
+
+    /**
+     * 이메일·닉네임 사용 여부를 빠르게 확인합니다. 확인하지 않을 값은 null 로 넘기며, 그 값은 사용 중이 아닌 것으로 반환합니다.
+     * 다른 인스턴스에서 방금 가입한 값은 사용 가능으로 보일 수 있으므로 안내용으로만 사용합니다.
+     */
+    public Availability check(String email, String nickname) {
+        String emailToQuery = email != null && emails.mightContain(email) ? email : null;
+        String nicknameToQuery = nickname != null && nicknames.mightContain(nickname) ? nickname : null;
+        if (emailToQuery == null && nicknameToQuery == null) {
+            return Availability.NONE_TAKEN;
+        }
+
+        return verify(emailToQuery, nicknameToQuery);
+    }
+
+    /**
+     * 필터를 거치지 않고 이메일·닉네임을 묶은 쿼리 한 번으로 DB 에서 확인합니다. null 인 값은 확인하지 않습니다.
+     */
+    public Availability verify(String email, String nickname) {
+        if (email == null && nickname == null) {
+            return Availability.NONE_TAKEN;
+        }
+        UserRepository.TakenFlags flags = userRepository.findTakenFlags(email, nickname);
+        return new Availability(isTaken(flags.getEmailTaken()), isTaken(flags.getNicknameTaken()));
+    }
+
+    /**
+     * 저장된 사용자의 이메일·닉네임을 필터에 추가합니다. 트랜잭션이 롤백되어도 남지만 오탐으로만 이어집니다.
+     */
+    public void register(User user) {
+        if (user.getEmail() != null) {
+            emails.put(user.getEmail());
+        }
+        if (user.getNickname() != null) {
+            nicknames.put(user.getNickname());
+        }
+    }
+
+    private static boolean isTaken(Integer flag) {
+        return flag != null && flag > 0;
+    }
+}
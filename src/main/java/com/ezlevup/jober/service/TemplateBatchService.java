@@ -0,0 +1,170 @@
+package com.ezlevup.jober.service;
+
+import com.ezlevup.jober.dto.TemplateBatchItem;
+import com.ezlevup.jober.dto.TemplateBatchItem.Status;
+import com.ezlevup.jober.dto.TemplateGenerateRequest;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 여러 템플릿 생성 요청을 가상 스레드로 병렬 처리합니다.
+ * 동시에 생성하는 개수는 모든 배치를 합쳐 parallelism 으로 제한되므로 배치가 몰려도 AI 호출이 배치 수만큼 늘어나지 않고,
+ * 각 항목은 실행을 시작한 시점부터 item-timeout 이 지나면 폴백 템플릿으로 대체됩니다.
+ * 배치 전체에는 제출 시점부터 deadline 이 적용되어, 그때까지 끝나지 않았거나 순서를 기다리던 항목도 폴백 템플릿으로 대체됩니다.
+ * 생성 중 오류가 난 항목은 FAILED 상태와 폴백 템플릿으로 알립니다.
+ * deadline 은 비동기 응답 제한 시간(spring.mvc.async.request-timeout)보다 짧아야 응답이 중간에 끊기지 않습니다.
+ */
+@Service
+public class TemplateBatchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TemplateBatchService.class);
+
+    /**
+     * 제출한 일괄 생성 작업입니다. 클라이언트 연결이 끊기거나 응답이 끝나면 {@link #cancel()} 로 남은 항목을 중단합니다.
+     */
+    public static final class Batch {
+
+        private final List<CompletableFuture<TemplateBatchItem>> items;
+        private final List<Future<?>> tasks;
+
+        private Batch(List<CompletableFuture<TemplateBatchItem>> items, List<Future<?>> tasks) {
+            this.items = items;
+            this.tasks = tasks;
+        }
+
+        /** 요청 순서와 같은 순서의 항목 결과. 취소되지 않는 한 예외 없이 항목 결과로 완료됩니다. */
+        public List<CompletableFuture<TemplateBatchItem>> items() {
+            return items;
+        }
+
+        /** 모든 항목이 끝나면 요청 순서대로 결과 목록으로 완료됩니다. */
+        public CompletableFuture<List<TemplateBatchItem>> all() {
+            return CompletableFuture.allOf(items.toArray(new CompletableFuture[0]))
+                .thenApply(done -> items.stream().map(CompletableFuture::join).toList());
+        }
+
+        /** 아직 끝나지 않은 항목을 중단합니다. 모두 끝난 뒤에 호출하면 아무 일도 하지 않습니다. */
+        public void cancel() {
+            for (Future<?> task : tasks) {
+                task.cancel(true);
+            }
+            for (CompletableFuture<TemplateBatchItem> item : items) {
+                item.cancel(false);
+            }
+        }
+    }
+
+    private final TemplateService templateService;
+    // 모든 배치가 함께 쓰는 동시 생성 한도
+    private final Semaphore permits;
+    private final int maxItems;
+    private final Duration itemTimeout;
+    private final Duration deadline;
+    private final ExecutorService executor =
+        Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("template-batch-", 0).factory());
+
+    public TemplateBatchService(TemplateService templateService,
+                                @Value("${template.batch.parallelism:8}") int parallelism,
+                                @Value("${template.batch.max-items:200}") int maxItems,
+                                @Value("${template.batch.item-timeout:PT30S}") Duration itemTimeout,
+                                @Value("${template.batch.deadline:PT5M}") Duration deadline) {
+        this.templateService = templateService;
+        this.permits = new Semaphore(parallelism);
+        this.maxItems = maxItems;
+        this.itemTimeout = itemTimeout;
+        this.deadline = deadline;
+    }
+
+    public int getMaxItems() {
+        return maxItems;
+    }
+
+    public Batch submit(List<TemplateGenerateRequest> requests, Long userId) {
+        logger.info("Starting template batch for userId: {}, items: {}", userId, requests.size());
+
+        long deadlineNanos = System.nanoTime() + deadline.toNanos();
+        List<CompletableFuture<TemplateBatchItem>> items = new ArrayList<>(requests.size());
+        List<Future<?>> tasks = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            int index = i;
+            TemplateGenerateRequest request = requests.get(i);
+            CompletableFuture<TemplateBatchItem> item = new CompletableFuture<>();
+            items.add(item);
+            tasks.add(executor.submit(() -> item.complete(generateItem(index, request, userId, deadlineNanos))));
+        }
+        return new Batch(items, tasks);
+    }
+
+    private TemplateBatchItem generateItem(int index, TemplateGenerateRequest request, Long userId, long deadlineNanos) {
+        if (request == null || request.getPrompt() == null || request.getPrompt().trim().isEmpty()) {
+            return new TemplateBatchItem(index, Status.INVALID, null, "프롬프트를 입력해주세요.");
+        }
+
+        try {
+            if (!permits.tryAcquire(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                logger.warn("Template batch item {} not started before batch deadline {}, using fallback template",
+                    index, deadline);
+                return batchDeadlineExceeded(index, request);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new TemplateBatchItem(index, Status.TIMEOUT, templateService.createFallbackTemplate(request),
+                "생성이 중단되어 기본 템플릿을 제공합니다.");
+        }
+
+        try {
+            long remainingNanos = deadlineNanos - System.nanoTime();
+            boolean deadlineFirst = remainingNanos < itemTimeout.toNanos();
+            Future<TemplateBatchItem> generation = executor.submit(() ->
+                new TemplateBatchItem(index, Status.COMPLETED, templateService.generateTemplate(request, userId), null));
+            try {
+                return generation.get(Math.min(remainingNanos, itemTimeout.toNanos()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                generation.cancel(true);
+                if (deadlineFirst) {
+                    logger.warn("Template batch item {} hit batch deadline {}, using fallback template", index, deadline);
+                    return batchDeadlineExceeded(index, request);
+                }
+                logger.warn("Template batch item {} timed out after {}, using fallback template", index, itemTimeout);
+                return new TemplateBatchItem(index, Status.TIMEOUT, templateService.createFallbackTemplate(request),
+                    "생성 시간이 초과되어 기본 템플릿을 제공합니다.");
+            } catch (InterruptedException e) {
+                generation.cancel(true);
+                Thread.currentThread().interrupt();
+                return new TemplateBatchItem(index, Status.TIMEOUT, templateService.createFallbackTemplate(request),
+                    "생성이 중단되어 기본 템플릿을 제공합니다.");
+            } catch (ExecutionException e) {
+                logger.error("Template batch item {} failed: {}", index, e.getCause().getMessage());
+                return new TemplateBatchItem(index, Status.FAILED, templateService.createFallbackTemplate(request),
+                    "생성 중 오류가 발생하여 기본 템플릿을 제공합니다.");
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    private TemplateBatchItem batchDeadlineExceeded(int index, TemplateGenerateRequest request) {
+        return new TemplateBatchItem(index, Status.TIMEOUT, templateService.createFallbackTemplate(request),
+            "일괄 생성 시간이 초과되어 기본 템플릿을 제공합니다.");
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,165 @@
+package com.ezlevup.jober.service;
+
+import com.ezlevup.jober.dto.TemplateBulkRenderLine;
+import com.ezlevup.jober.util.CsvReader;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 수신자 변수 CSV 를 한 행씩 읽어 치환한 메시지를 NDJSON 으로 바로 내보냅니다.
+ * 입력과 출력 모두 고정 크기 버퍼만 사용하므로 수신자 수와 관계없이 메모리 사용량이 일정합니다.
+ * 변수가 빠진 행, 열 개수가 맞지 않는 행, 필드가 너무 길거나 많은 행은 해당 줄에 표시하고 다음 행을 계속 처리합니다.
+ */
+@Service
+public class TemplateBulkRenderService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TemplateBulkRenderService.class);
+
+    // 행마다 네트워크로 내보내지 않도록 일정 행 수마다 flush 합니다.
+    private static final int FLUSH_INTERVAL = 256;
+
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter lineWriter;
+    private final int maxFieldLength;
+    private final int maxFields;
+
+    public TemplateBulkRenderService(ObjectMapper objectMapper,
+                                     @Value("${template.bulk-render.max-field-length:4096}") int maxFieldLength,
+                                     @Value("${template.bulk-render.max-fields:256}") int maxFields) {
+        this.objectMapper = objectMapper;
+        this.lineWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.maxFieldLength = maxFieldLength;
+        this.maxFields = maxFields;
+    }
+
+    /**
+     * 첫 행을 변수명 헤더로, 이후 각 행을 수신자 한 명의 변수 값으로 보고 치환 결과를 한 줄씩 씁니다.
+     * 마지막 줄에는 처리 요약({@code {"summary":{...}}})을 씁니다.
+     */
+    public void render(TemplateRenderer.CompiledMessage message, InputStream csv, OutputStream out) throws IOException {
+        CsvReader reader = new CsvReader(new InputStreamReader(csv, StandardCharsets.UTF_8), maxFieldLength, maxFields);
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setRootValueSeparator(null);
+
+        try (reader; generator) {
+            List<String> header;
+            try {
+                header = reader.readRecord();
+            } catch (CsvReader.CsvFormatException e) {
+                writeLine(generator, invalid(0, "CSV 형식이 올바르지 않습니다: " + e.getMessage()));
+                return;
+            }
+            if (header == null) {
+                writeLine(generator, invalid(0, "CSV 헤더가 없습니다."));
+                return;
+            }
+
+            String[] names = new String[header.size()];
+            for (int i = 0; i < names.length; i++) {
+                names[i] = TemplateRenderer.normalizeName(header.get(i));
+            }
+
+            Map<String, String> variables = new HashMap<>(names.length * 2);
+            long rows = 0;
+            long rendered = 0;
+            long incomplete = 0;
+            long invalid = 0;
+
+            try {
+                while (true) {
+                    List<String> record;
+                    try {
+                        record = reader.readRecord();
+                    } catch (CsvReader.CsvRecordException e) {
+                        // 레코드 하나만 잘못된 경우이므로 해당 행만 표시하고 계속 읽습니다.
+                        rows++;
+                        invalid++;
+                        writeLine(generator, invalid(rows, "CSV 행이 올바르지 않습니다: " + e.getMessage()));
+                        if (rows % FLUSH_INTERVAL == 0) {
+                            generator.flush();
+                        }
+                        continue;
+                    }
+                    if (record == null) {
+                        break;
+                    }
+
+                    rows++;
+                    if (record.size() != names.length) {
+                        invalid++;
+                        writeLine(generator, invalid(rows,
+                            "열 개수가 헤더와 다릅니다. (헤더 " + names.length + "개, 행 " + record.size() + "개)"));
+                    } else {
+                        variables.clear();
+                        for (int i = 0; i < names.length; i++) {
+                            String value = record.get(i);
+                            if (!value.isEmpty()) {
+                                variables.put(names[i], value);
+                            }
+                        }
+
+                        List<String> missing = message.missingVariables(variables);
+                        if (missing.isEmpty()) {
+                            rendered++;
+                        } else {
+                            incomplete++;
+                        }
+                        writeLine(generator, new TemplateBulkRenderLine(
+                            rows,
+                            missing.isEmpty() ? TemplateBulkRenderLine.Status.RENDERED : TemplateBulkRenderLine.Status.MISSING_VARIABLES,
+                            message.title().render(variables),
+                            message.content().render(variables),
+                            missing.isEmpty() ? null : missing,
+                            null
+                        ));
+                    }
+
+                    if (rows % FLUSH_INTERVAL == 0) {
+                        generator.flush();
+                    }
+                }
+            } catch (CsvReader.CsvFormatException e) {
+                // 따옴표가 깨지면 이후 행의 경계를 신뢰할 수 없으므로 여기서 멈춥니다.
+                invalid++;
+                writeLine(generator, invalid(rows + 1, "CSV 형식이 올바르지 않습니다: " + e.getMessage()));
+            }
+
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("rows", rows);
+            summary.put("rendered", rendered);
+            summary.put("missingVariables", incomplete);
+            summary.put("invalid", invalid);
+            writeLine(generator, Map.of("summary", summary));
+
+            logger.info("Bulk render finished: rows={}, rendered={}, missingVariables={}, invalid={}",
+                rows, rendered, incomplete, invalid);
+        }
+    }
+
+    private TemplateBulkRenderLine invalid(long row, String error) {
+        return new TemplateBulkRenderLine(row, TemplateBulkRenderLine.Status.INVALID, null, null, null, error);
+    }
+
+    private void writeLine(JsonGenerator generator, Object line) throws IOException {
+        lineWriter.writeValue(generator, line);
+        generator.writeRaw('\n');
+    }
+}
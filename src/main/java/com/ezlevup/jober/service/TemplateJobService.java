@@ -0,0 +1,145 @@
+package com.ezlevup.jober.service;
+
+import com.ezlevup.jober.dto.TemplateGenerateRequest;
+import com.ezlevup.jober.dto.TemplateJobResponse;
+import com.ezlevup.jober.dto.TemplateJobResponse.Status;
+import com.ezlevup.jober.entity.Template;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 템플릿 생성을 작업 단위로 등록하고 가상 스레드에서 실행합니다.
+ * 서블릿 스레드는 작업 ID만 받아 즉시 반환되며, 동시에 보관되는 미완료 작업 수는 max-pending 으로 제한됩니다.
+ * 완료된 작업은 retention 동안만 조회할 수 있고, 최대 max-retained 개까지만 보관합니다.
+ */
+@Service
+public class TemplateJobService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TemplateJobService.class);
+
+    private final TemplateService templateService;
+    private final Semaphore pendingPermits;
+    private final Cache<String, Job> jobs;
+    private final ExecutorService executor =
+        Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("template-job-", 0).factory());
+
+    public TemplateJobService(TemplateService templateService,
+                              @Value("${template.job.max-pending:200}") int maxPending,
+                              @Value("${template.job.retention:PT10M}") Duration retention,
+                              @Value("${template.job.max-retained:10000}") long maxRetained) {
+        this.templateService = templateService;
+        this.pendingPermits = new Semaphore(maxPending);
+        // 미완료 작업은 가중치 0, 만료 없음으로 두어 실행 중에 사라지지 않게 합니다. (개수는 max-pending 으로 제한)
+        // 완료 시 다시 넣으면 가중치 1 이 되고 그때부터 retention 이 지나면 만료됩니다.
+        this.jobs = Caffeine.newBuilder()
+            .maximumWeight(maxRetained)
+            .weigher((String jobId, Job job) -> job.isFinished() ? 1 : 0)
+            .expireAfter(new Expiry<String, Job>() {
+                @Override
+                public long expireAfterCreate(String jobId, Job job, long currentTime) {
+                    return job.isFinished() ? retention.toNanos() : Long.MAX_VALUE;
+                }
+
+                @Override
+                public long expireAfterUpdate(String jobId, Job job, long currentTime, long currentDuration) {
+                    return job.isFinished() ? retention.toNanos() : Long.MAX_VALUE;
+                }
+
+                @Override
+                public long expireAfterRead(String jobId, Job job, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .build();
+    }
+
+    public TemplateJobResponse submit(TemplateGenerateRequest request, Long userId) {
+        if (!pendingPermits.tryAcquire()) {
+            throw new RejectedExecutionException("Too many pending template jobs");
+        }
+
+        Job job = new Job(UUID.randomUUID().toString(), userId);
+        jobs.put(job.jobId, job);
+
+        try {
+            executor.execute(() -> run(job, request));
+        } catch (RejectedExecutionException e) {
+            jobs.invalidate(job.jobId);
+            pendingPermits.release();
+            throw e;
+        }
+
+        logger.info("Template job {} submitted for userId: {}", job.jobId, userId);
+        return job.toResponse();
+    }
+
+    public Optional<TemplateJobResponse> getJob(String jobId, Long userId) {
+        Job job = jobs.getIfPresent(jobId);
+        if (job == null || !Objects.equals(job.userId, userId)) {
+            return Optional.empty();
+        }
+        return Optional.of(job.toResponse());
+    }
+
+    private void run(Job job, TemplateGenerateRequest request) {
+        job.status = Status.RUNNING;
+        try {
+            job.result = templateService.generateTemplate(request, job.userId);
+            job.completedAt = LocalDateTime.now();
+            job.status = Status.COMPLETED;
+        } catch (Exception e) {
+            logger.error("Template job {} failed: {}", job.jobId, e.getMessage());
+            job.error = "템플릿 생성 중 오류가 발생했습니다.";
+            job.completedAt = LocalDateTime.now();
+            job.status = Status.FAILED;
+        } finally {
+            // 완료 상태로 가중치와 만료 시간을 다시 계산합니다.
+            jobs.asMap().replace(job.jobId, job);
+            pendingPermits.release();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static class Job {
+        private final String jobId;
+        private final Long userId;
+        private final LocalDateTime createdAt = LocalDateTime.now();
+        private volatile Status status = Status.PENDING;
+        private volatile Template result;
+        private volatile String error;
+        private volatile LocalDateTime completedAt;
+
+        private Job(String jobId, Long userId) {
+            this.jobId = jobId;
+            this.userId = userId;
+        }
+
+        private boolean isFinished() {
+            return completedAt != null;
+        }
+
+        private TemplateJobResponse toResponse() {
+            return new TemplateJobResponse(jobId, status, result, error, createdAt, completedAt);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.ezlevup.jober.service;
+
+import com.ezlevup.jober.dto.TemplateRenderResponse;
+import com.ezlevup.jober.util.CompiledTemplate;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 템플릿의 {@code #{변수명}} 자리표시자를 수신자별 값으로 치환합니다.
+ * aiRes JSON 파싱과 자리표시자 분해는 템플릿마다 한 번만 수행해 캐시하고,
+ * 수신자마다는 미리 분해된 배열을 이어 붙이기만 합니다.
+ */
+@Component
+public class TemplateRenderer {
+
+    public record CompiledMessage(CompiledTemplate title, CompiledTemplate content) {
+
+        public TemplateRenderResponse render(Map<String, String> variables) {
+            return new TemplateRenderResponse(
+                title.render(variables),
+                content.render(variables),
+                missingVariables(variables)
+            );
+        }
+
+        public List<String> missingVariables(Map<String, String> variables) {
+            List<String> missing = new ArrayList<>(title.missingVariables(variables));
+            for (String name : content.missingVariables(variables)) {
+                if (!missing.contains(name)) {
+                    missing.add(name);
+                }
+            }
+            return missing;
+        }
+    }
+
+    private static final CompiledTemplate EMPTY = CompiledTemplate.compile("");
+
+    private final ObjectMapper objectMapper;
+    private final Cache<String, CompiledMessage> compiledMessages;
+
+    public TemplateRenderer(ObjectMapper objectMapper,
+                            @Value("${template.render.cache-size:1000}") long cacheSize) {
+        this.objectMapper = objectMapper;
+        this.compiledMessages = Caffeine.newBuilder()
+            .maximumSize(cacheSize)
+            .build();
+    }
+
+    /**
+     * 저장된 템플릿 응답(aiRes)의 제목과 내용을 분해해 반환합니다. 같은 aiRes 는 캐시된 결과를 재사용합니다.
+     *
+     * @throws IllegalArgumentException aiRes 가 올바른 JSON 이 아닌 경우
+     */
+    public CompiledMessage compile(String aiRes) {
+        if (aiRes == null) {
+            throw new IllegalArgumentException("Template response is empty");
+        }
+        return compiledMessages.get(aiRes, this::parse);
+    }
+
+    /**
+     * 저장되지 않은 내용을 직접 분해합니다. 일회성 요청이므로 캐시하지 않습니다.
+     */
+    public CompiledMessage compileContent(String content) {
+        return new CompiledMessage(EMPTY, CompiledTemplate.compile(content));
+    }
+
+    /**
+     * 클라이언트가 보낸 변수명에서 {@code #{}} 를 벗겨 자리표시자 이름과 맞춥니다.
+     */
+    public static Map<String, String> normalizeVariables(Map<String, String> variables) {
+        if (variables == null || variables.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, String> normalized = new HashMap<>(variables.size() * 2);
+        for (Map.Entry<String, String> entry : variables.entrySet()) {
+            normalized.put(normalizeName(entry.getKey()), entry.getValue());
+        }
+        return normalized;
+    }
+
+    static String normalizeName(String name) {
+        if (name == null) {
+            return "";
+        }
+        String trimmed = name.trim();
+        if (trimmed.startsWith("#{") && trimmed.endsWith("}")) {
+            return trimmed.substring(2, trimmed.length() - 1);
+        }
+        return trimmed;
+    }
+
+    private CompiledMessage parse(String aiRes) {
+        JsonNode root;
+        try {
+            root = objectMapper.readTree(aiRes);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Template response is not valid JSON", e);
+        }
+        // AI 서버 응답이 template 객체로 감싸져 있는 경우도 처리합니다.
+        JsonNode message = root.has("content") || !root.has("template") ? root : root.path("template");
+        return new CompiledMessage(
+            CompiledTemplate.compile(message.path("title").asText("")),
+            CompiledTemplate.compile(message.path("content").asText(""))
+        );
+    }
+}
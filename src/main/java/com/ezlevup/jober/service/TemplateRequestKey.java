@@ -0,0 +1,42 @@
+package com.ezlevup.jober.service;
+
+import com.ezlevup.jober.dto.TemplateGenerateRequest;
+
+import java.util.Locale;
+
+/**
+ * AI 템플릿 생성 요청을 식별하는 정규화된 키입니다.
+ * 앞뒤 공백 제거, 연속 공백 축약, 소문자 변환을 거치므로 표기만 다른 동일 요청은 같은 키가 됩니다.
+ */
+public record TemplateRequestKey(String prompt, String businessType, String messagePurpose) {
+
+    public static TemplateRequestKey from(TemplateGenerateRequest request) {
+        return new TemplateRequestKey(
+            normalize(request.getPrompt()),
+            normalize(request.getBusinessType()),
+            normalize(request.getMessagePurpose())
+        );
+    }
+
+    static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+
+        StringBuilder normalized = new StringBuilder(value.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (Character.isWhitespace(c)) {
+                pendingSpace = normalized.length() > 0;
+                continue;
+            }
+            if (pendingSpace) {
+                normalized.append(' ');
+                pendingSpace = false;
+            }
+            normalized.append(c);
+        }
+        return normalized.toString().toLowerCase(Locale.ROOT);
+    }
+}
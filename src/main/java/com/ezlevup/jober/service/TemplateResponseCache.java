@@ -0,0 +1,86 @@
+package com.ezlevup.jober.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * AI 서버가 생성한 템플릿 응답(aiRes)을 정규화된 요청 키로 보관하는 프로세스 내 캐시입니다.
+ * Caffeine 의 W-TinyLFU 정책으로 크기를 제한하고, TTL 이 지난 항목은 다시 생성합니다.
+ * 폴백 템플릿은 캐시하지 않습니다.
+ */
+@Component
+public class TemplateResponseCache {
+
+    private final StatsCounter statsCounter = new ConcurrentStatsCounter();
+    private final Cache<TemplateRequestKey, String> cache;
+
+    public TemplateResponseCache(@Value("${template.cache.maximum-size:10000}") long maximumSize,
+                                 @Value("${template.cache.ttl:PT1H}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(ttl)
+            .recordStats(() -> statsCounter)
+            .build();
+    }
+
+    /**
+     * 캐시된 응답을 반환하고, 없으면 loader 로 생성해 저장합니다.
+     * bypass 가 true 이면 조회를 건너뛰고 새로 생성한 값으로 캐시를 갱신합니다.
+     */
+    public String get(TemplateRequestKey key, Supplier<String> loader, boolean bypass) {
+        if (!bypass) {
+            String cached = cache.getIfPresent(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        long start = System.nanoTime();
+        String value;
+        try {
+            value = loader.get();
+        } catch (RuntimeException e) {
+            statsCounter.recordLoadFailure(System.nanoTime() - start);
+            throw e;
+        }
+
+        if (value == null || value.isEmpty()) {
+            statsCounter.recordLoadFailure(System.nanoTime() - start);
+            return value;
+        }
+
+        statsCounter.recordLoadSuccess(System.nanoTime() - start);
+        cache.put(key, value);
+        return value;
+    }
+
+    public String getIfPresent(TemplateRequestKey key) {
+        return cache.getIfPresent(key);
+    }
+
+    /** 로더를 거치지 않고 완성된 응답(스트리밍으로 끝까지 받은 응답 등)을 저장합니다. */
+    public void put(TemplateRequestKey key, String value) {
+        cache.put(key, value);
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    /** 메트릭 등록용 원본 캐시 */
+    public Cache<?, ?> nativeCache() {
+        return cache;
+    }
+}
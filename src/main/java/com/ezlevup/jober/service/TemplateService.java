@@ -1,26 +1,38 @@
 package com.ezlevup.jober.service;
 
 import com.ezlevup.jober.dto.TemplateGenerateRequest;
+import com.ezlevup.jober.dto.TemplatePageResponse;
 import com.ezlevup.jober.entity.Template;
+import com.ezlevup.jober.repository.TemplateRepository;
 import com.fasterxml.jackson.annotation.JsonProperty;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Arrays;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 @Service
+@RequiredArgsConstructor
 public class TemplateService {
     
     private static final Logger logger = LoggerFactory.getLogger(TemplateService.class);
-    private final RestTemplate restTemplate = new RestTemplate();
-    private static final String AI_API_URL = "http://localhost:8000/generate-template";
+    private final AiTemplateClient aiTemplateClient;
+    private final TemplateResponseCache templateResponseCache;
+    private final AiRequestCoalescer aiRequestCoalescer;
+    private final TemplateRepository templateRepository;
+    private final FallbackTemplateEngine fallbackTemplateEngine;
+    private final MeterRegistry meterRegistry;
     
     public static class AITemplateRequest {
         @JsonProperty("user_input")
@@ -45,6 +57,23 @@ public class TemplateService {
     
     
     public Template generateTemplate(TemplateGenerateRequest request, Long userId) {
+        return saveForUser(requestTemplate(request, userId), userId);
+    }
+    
+    /**
+     * 로그인한 사용자의 템플릿만 저장합니다. 비로그인 요청이면 저장하지 않고 그대로 반환합니다.
+     */
+    public Template saveForUser(Template template, Long userId) {
+        if (userId != null && userId > 0) {
+            template.setUserId(userId);
+            return templateRepository.save(template);
+        }
+        return template;
+    }
+    
+    private Template requestTemplate(TemplateGenerateRequest request, Long userId) {
+        long start = System.nanoTime();
+        String outcome = "exception";
         try {
             logger.info("Starting template generation for userId: {}, prompt: {}", userId, request.getPrompt());
             
@@ -54,15 +83,11 @@ public class TemplateService {
                 request.getMessagePurpose()
             );
             
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            HttpEntity<AITemplateRequest> requestEntity = new HttpEntity<>(aiRequest, headers);
-            
-            logger.info("Calling AI API at: {}", AI_API_URL);
-            String aiResponseJson = restTemplate.postForObject(
-                AI_API_URL, 
-                requestEntity, 
-                String.class
+            TemplateRequestKey requestKey = TemplateRequestKey.from(request);
+            String aiResponseJson = templateResponseCache.get(
+                requestKey,
+                () -> aiRequestCoalescer.execute(requestKey, () -> aiTemplateClient.generateTemplate(aiRequest)),
+                request.isBypassCache()
             );
             
             logger.info("AI API response received: {}", aiResponseJson != null ? "Success" : "Null");
@@ -70,57 +95,96 @@ public class TemplateService {
             Template template = new Template();
             
             if (aiResponseJson != null && !aiResponseJson.isEmpty()) {
+                outcome = "success";
                 logger.info("Setting AI response to template");
                 template.setAiRes(aiResponseJson);
                 logger.info("Successfully processed AI response");
             } else {
+                outcome = "null";
                 logger.warn("AI response is null or empty, using fallback template");
                 generateFallbackTemplate(template, request);
             }
             
             return template;
             
+        } catch (CallNotPermittedException | BulkheadFullException e) {
+            outcome = "fallback";
+            logger.warn("AI API call not permitted ({}), using fallback template", e.getMessage());
+            Template template = new Template();
+            generateFallbackTemplate(template, request);
+            return template;
         } catch (Exception e) {
             logger.error("Error calling AI API: {}", e.getMessage());
             Template template = new Template();
             generateFallbackTemplate(template, request);
             return template;
+        } finally {
+            // 캐시 적중을 포함한 AI 응답 확보 시간 (outcome: success, null, fallback, exception)
+            meterRegistry.timer("ai.template.requests", "outcome", outcome)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
         }
     }
     
+    public Template createFallbackTemplate(TemplateGenerateRequest request) {
+        Template template = new Template();
+        generateFallbackTemplate(template, request);
+        return template;
+    }
+    
     private void generateFallbackTemplate(Template template, TemplateGenerateRequest request) {
-        logger.info("Generating fallback template for prompt: {}", request.getPrompt());
+        FallbackTemplateEngine.FallbackTemplate fallback = fallbackTemplateEngine.select(request.getPrompt());
+        logger.info("Using fallback template '{}' for prompt: {}", fallback.id(), request.getPrompt());
+        meterRegistry.counter("template.fallbacks", "template", fallback.id()).increment();
         
-        String fallbackJson;
-        if (request.getPrompt().contains("과제")) {
-            fallbackJson = "{\n" +
-                "  \"title\": \"[과제 안내]\",\n" +
-                "  \"content\": \"안녕하세요, #{고객명}학부모님.\\n#{과목명} 과제 관련 안내드립니다.\\n\\n📝 과제명: 과제 제출 안내\\n\\n문의 사항은 연락처 #{연락처}로 연락 주세요.\",\n" +
-                "  \"buttons\": [{\"type\": \"WL\", \"text\": \"과제 확인하기\", \"link\": \"https://school.jober.io/homework/123\"}],\n" +
-                "  \"variables\": [{\"key\": \"#{고객명}\", \"sampleValue\": \"홍길동\"}, {\"key\": \"#{과목명}\", \"sampleValue\": \"가을학기 오리엔테이션\"}, {\"key\": \"#{연락처}\", \"sampleValue\": \"010-1234-5678\"}]\n" +
-                "}";
-        } else if (request.getPrompt().contains("수업")) {
-            fallbackJson = "{\n" +
-                "  \"title\": \"[수업 일정 안내]\",\n" +
-                "  \"content\": \"안녕하세요, #{고객명}님.\\n#{수업명} 일정이 변경되었습니다.\\n\\n📅 변경된 일정: #{새_일정}\\n\\n궁금한 사항은 #{연락처}로 문의해주세요.\",\n" +
-                "  \"buttons\": [{\"type\": \"WL\", \"text\": \"일정 확인하기\", \"link\": \"https://school.jober.io/schedule/456\"}],\n" +
-                "  \"variables\": [{\"key\": \"#{고객명}\", \"sampleValue\": \"김철수\"}, {\"key\": \"#{수업명}\", \"sampleValue\": \"프로그래밍 기초\"}, {\"key\": \"#{새_일정}\", \"sampleValue\": \"매주 화요일 오후 2시\"}, {\"key\": \"#{연락처}\", \"sampleValue\": \"010-9876-5432\"}]\n" +
-                "}";
+        template.setAiRes(fallback.json());
+    }
+    
+    @Transactional(readOnly = true)
+    public Optional<Template> findUserTemplate(Long userId, Long templateId) {
+        return templateRepository.findByIdAndUserId(templateId, userId);
+    }
+    
+    /**
+     * 사용자의 템플릿을 최신순으로 조회합니다.
+     * OFFSET 대신 (created_at, id) 커서를 사용하므로 페이지 위치와 관계없이 인덱스 범위 조회 한 번으로 끝납니다.
+     */
+    @Transactional(readOnly = true)
+    public TemplatePageResponse getUserTemplates(Long userId, String cursor, int size) {
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회합니다.
+        Limit limit = Limit.of(size + 1);
+        List<Template> templates;
+        if (cursor == null || cursor.isBlank()) {
+            templates = templateRepository.findLatestByUserId(userId, limit);
         } else {
-            fallbackJson = "{\n" +
-                "  \"title\": \"[안내사항]\",\n" +
-                "  \"content\": \"안녕하세요, #{고객명}님.\\n#{내용}에 대해 안내드립니다.\\n\\n자세한 사항은 #{연락처}로 문의해주세요.\",\n" +
-                "  \"buttons\": [{\"type\": \"WL\", \"text\": \"자세히 보기\", \"link\": \"https://jober.io/info\"}],\n" +
-                "  \"variables\": [{\"key\": \"#{고객명}\", \"sampleValue\": \"고객님\"}, {\"key\": \"#{내용}\", \"sampleValue\": \"중요한 공지사항\"}, {\"key\": \"#{연락처}\", \"sampleValue\": \"010-0000-0000\"}]\n" +
-                "}";
+            TemplateCursor position = TemplateCursor.decode(cursor);
+            templates = templateRepository.findLatestByUserIdBefore(userId, position.createdAt(), position.id(), limit);
         }
         
-        template.setAiRes(fallbackJson);
+        boolean hasNext = templates.size() > size;
+        List<Template> items = hasNext ? templates.subList(0, size) : templates;
+        String nextCursor = hasNext ? TemplateCursor.encode(items.get(items.size() - 1)) : null;
+        
+        return new TemplatePageResponse(items, nextCursor, hasNext);
     }
     
-    public List<Template> getUserTemplates(Long userId) {
-        // 실제로는 데이터베이스에서 조회
-        // 현재는 빈 리스트 반환
-        return Arrays.asList();
+    private record TemplateCursor(LocalDateTime createdAt, Long id) {
+        
+        static String encode(Template template) {
+            String raw = template.getCreatedAt() + "|" + template.getId();
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+        
+        static TemplateCursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = raw.lastIndexOf('|');
+                return new TemplateCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1))
+                );
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Invalid template cursor: " + cursor, e);
+            }
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,293 @@
+package com.ezlevup.jober.service;
+
+import com.ezlevup.jober.dto.TemplateGenerateRequest;
+import com.ezlevup.jober.entity.Template;
+import com.ezlevup.jober.service.TemplateService.AITemplateRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import jakarta.annotation.PreDestroy;
+import org.apache.hc.client5.http.classic.methods.HttpPost;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.HttpEntity;
+import org.apache.hc.core5.http.io.entity.StringEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * AI 서버의 스트리밍 응답을 SSE 로 클라이언트에 그대로 전달합니다.
+ * 전송은 가상 스레드에서 이뤄지므로 서블릿 스레드는 SseEmitter 를 반환하는 즉시 풀려나고,
+ * 응답은 읽은 조각 단위로 바로 흘려보냅니다.
+ * 클라이언트가 떠나거나 SSE 가 타임아웃되면 업스트림 요청을 취소해 남은 본문을 읽지 않고 연결을 끊으며,
+ * 업스트림 호출 전체에는 {@code /generate} 와 같은 total-timeout 마감 시간을 적용합니다.
+ * 끝까지 받은 응답은 {@code /generate} 와 같이 캐시하고 로그인한 사용자의 템플릿으로 저장합니다.
+ *
+ * 이벤트 종류: chunk(생성 중인 조각), fallback(폴백 템플릿, 이미 받은 조각이 있으면 대체), error(오류), done(종료)
+ */
+@Service
+public class TemplateStreamService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TemplateStreamService.class);
+    private static final int CHUNK_BUFFER_SIZE = 4096;
+
+    private final CloseableHttpClient aiHttpClient;
+    private final CircuitBreaker aiCircuitBreaker;
+    private final Bulkhead aiBulkhead;
+    private final TemplateResponseCache templateResponseCache;
+    private final TemplateService templateService;
+    private final ObjectMapper objectMapper;
+    private final String streamUrl;
+    private final Duration emitterTimeout;
+    private final Duration totalTimeout;
+    private final ExecutorService executor =
+        Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("template-stream-", 0).factory());
+
+    public TemplateStreamService(@Qualifier("aiHttpClient") CloseableHttpClient aiHttpClient,
+                                 CircuitBreaker aiCircuitBreaker,
+                                 Bulkhead aiBulkhead,
+                                 TemplateResponseCache templateResponseCache,
+                                 TemplateService templateService,
+                                 ObjectMapper objectMapper,
+                                 @Value("${ai.client.stream-url:http://localhost:8000/generate-template/stream}") String streamUrl,
+                                 @Value("${template.stream.timeout:PT2M}") Duration emitterTimeout,
+                                 @Value("${ai.client.total-timeout:PT45S}") Duration totalTimeout) {
+        this.aiHttpClient = aiHttpClient;
+        this.aiCircuitBreaker = aiCircuitBreaker;
+        this.aiBulkhead = aiBulkhead;
+        this.templateResponseCache = templateResponseCache;
+        this.templateService = templateService;
+        this.objectMapper = objectMapper;
+        this.streamUrl = streamUrl;
+        this.emitterTimeout = emitterTimeout;
+        this.totalTimeout = totalTimeout;
+    }
+
+    public SseEmitter stream(TemplateGenerateRequest request, Long userId) {
+        SseEmitter emitter = new SseEmitter(emitterTimeout.toMillis());
+
+        if (request.getPrompt() == null || request.getPrompt().trim().isEmpty()) {
+            executor.execute(() -> sendErrorAndComplete(emitter, "프롬프트를 입력해주세요."));
+            return emitter;
+        }
+
+        // 클라이언트 연결이 끝나면(타임아웃, 오류, 종료) 아직 진행 중인 업스트림 요청을 취소합니다.
+        // 요청이 이미 끝났거나 시작 전이면 취소는 아무 영향이 없거나 시작하자마자 중단시킵니다.
+        HttpPost post = new HttpPost(streamUrl);
+        emitter.onTimeout(post::cancel);
+        emitter.onError(e -> post.cancel());
+        emitter.onCompletion(post::cancel);
+
+        logger.info("Starting template stream for userId: {}, prompt: {}", userId, request.getPrompt());
+        executor.execute(() -> relay(emitter, post, request, userId));
+        return emitter;
+    }
+
+    private void relay(SseEmitter emitter, HttpPost post, TemplateGenerateRequest request, Long userId) {
+        try {
+            if (!request.isBypassCache()) {
+                String cached = templateResponseCache.getIfPresent(TemplateRequestKey.from(request));
+                if (cached != null) {
+                    sendText(emitter, "chunk", cached);
+                    saveAndComplete(emitter, cached, userId);
+                    return;
+                }
+            }
+
+            if (!aiBulkhead.tryAcquirePermission()) {
+                logger.warn("AI bulkhead is full, streaming fallback template");
+                sendFallbackAndComplete(emitter, request, userId);
+                return;
+            }
+
+            try {
+                if (!aiCircuitBreaker.tryAcquirePermission()) {
+                    logger.warn("AI circuit breaker is {}, streaming fallback template", aiCircuitBreaker.getState());
+                    sendFallbackAndComplete(emitter, request, userId);
+                    return;
+                }
+
+                relayUpstream(emitter, post, request, userId);
+            } finally {
+                aiBulkhead.onComplete();
+            }
+        } catch (ClientDisconnectedException e) {
+            logger.debug("Template stream client disconnected: {}", e.getMessage());
+        } catch (Exception e) {
+            logger.error("Error streaming template: {}", e.getMessage());
+            emitter.completeWithError(e);
+        }
+    }
+
+    private void relayUpstream(SseEmitter emitter, HttpPost post, TemplateGenerateRequest request, Long userId)
+            throws Exception {
+        AITemplateRequest aiRequest = new AITemplateRequest(
+            request.getPrompt(),
+            request.getBusinessType(),
+            request.getMessagePurpose()
+        );
+        post.setEntity(new StringEntity(objectMapper.writeValueAsString(aiRequest), ContentType.APPLICATION_JSON));
+
+        long start = System.nanoTime();
+        // 서킷 브레이커에는 첫 조각이 도착한 시점(TTFB)을 기준으로 결과를 기록합니다.
+        AtomicBoolean recorded = new AtomicBoolean();
+        StringBuilder body = new StringBuilder();
+        Future<Object> call = executor.submit(() -> aiHttpClient.execute(post, response -> {
+            if (response.getCode() >= 300) {
+                throw new IOException("AI stream API returned status " + response.getCode());
+            }
+
+            HttpEntity entity = response.getEntity();
+            if (entity == null) {
+                throw new IOException("AI stream API returned an empty body");
+            }
+
+            try (Reader reader = new InputStreamReader(entity.getContent(), StandardCharsets.UTF_8)) {
+                char[] buffer = new char[CHUNK_BUFFER_SIZE];
+                int read;
+                while ((read = reader.read(buffer)) != -1) {
+                    if (recorded.compareAndSet(false, true)) {
+                        aiCircuitBreaker.onSuccess(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                    }
+                    String chunk = new String(buffer, 0, read);
+                    body.append(chunk);
+                    try {
+                        sendText(emitter, "chunk", chunk);
+                    } catch (ClientDisconnectedException e) {
+                        // 스트림을 닫으면 HttpClient 가 남은 본문을 끝까지 읽으므로, 닫기 전에 연결을 끊습니다.
+                        post.cancel();
+                        throw e;
+                    }
+                }
+            }
+            return null;
+        }));
+
+        Exception failure = null;
+        boolean timedOut = false;
+        try {
+            call.get(totalTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            timedOut = true;
+            post.cancel();
+            call.cancel(true);
+            failure = new TimeoutException("AI stream API exceeded total timeout of " + totalTimeout);
+        } catch (InterruptedException e) {
+            post.cancel();
+            call.cancel(true);
+            Thread.currentThread().interrupt();
+            throw e;
+        } catch (ExecutionException e) {
+            failure = e.getCause() instanceof Exception cause ? cause : e;
+        }
+
+        // 마감 시간 외의 이유로 요청이 취소됐다면 클라이언트 연결이 끝난 것입니다.
+        if (failure != null && !timedOut && post.isCancelled() && !(failure instanceof ClientDisconnectedException)) {
+            failure = new ClientDisconnectedException(failure);
+        }
+        if (failure instanceof ClientDisconnectedException disconnected) {
+            if (!recorded.get()) {
+                aiCircuitBreaker.releasePermission();
+            }
+            throw disconnected;
+        }
+        if (failure != null) {
+            if (recorded.get()) {
+                throw failure;
+            }
+            aiCircuitBreaker.onError(System.nanoTime() - start, TimeUnit.NANOSECONDS, failure);
+            logger.error("Error calling AI stream API: {}, streaming fallback template", failure.getMessage());
+            sendFallbackAndComplete(emitter, request, userId);
+            return;
+        }
+
+        if (!recorded.get()) {
+            aiCircuitBreaker.onError(System.nanoTime() - start, TimeUnit.NANOSECONDS,
+                new IOException("AI stream API returned no data"));
+            sendFallbackAndComplete(emitter, request, userId);
+            return;
+        }
+
+        String aiRes = body.toString();
+        if (!AiTemplateClient.isWellFormed(objectMapper, aiRes)) {
+            // /generate 와 같이 잘린 응답은 캐시하지 않고 폴백 템플릿으로 대체합니다.
+            logger.warn("AI stream API returned malformed JSON ({} chars), streaming fallback template", aiRes.length());
+            sendFallbackAndComplete(emitter, request, userId);
+            return;
+        }
+
+        templateResponseCache.put(TemplateRequestKey.from(request), aiRes);
+        saveAndComplete(emitter, aiRes, userId);
+    }
+
+    private void sendFallbackAndComplete(SseEmitter emitter, TemplateGenerateRequest request, Long userId) {
+        String fallback = templateService.createFallbackTemplate(request).getAiRes();
+        sendText(emitter, "fallback", fallback);
+        saveAndComplete(emitter, fallback, userId);
+    }
+
+    private void saveAndComplete(SseEmitter emitter, String aiRes, Long userId) {
+        Template template = new Template();
+        template.setAiRes(aiRes);
+        templateService.saveForUser(template, userId);
+        complete(emitter);
+    }
+
+    private void sendErrorAndComplete(SseEmitter emitter, String message) {
+        try {
+            sendText(emitter, "error", message);
+            emitter.complete();
+        } catch (ClientDisconnectedException e) {
+            logger.debug("Template stream client disconnected: {}", e.getMessage());
+        }
+    }
+
+    private void complete(SseEmitter emitter) {
+        sendText(emitter, "done", "");
+        emitter.complete();
+    }
+
+    private void sendText(SseEmitter emitter, String eventName, String text) {
+        try {
+            emitter.send(SseEmitter.event()
+                .name(eventName)
+                .data(Map.of("text", text), MediaType.APPLICATION_JSON));
+        } catch (IOException | IllegalStateException e) {
+            throw new ClientDisconnectedException(e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 클라이언트 연결이 끊겨 더 이상 이벤트를 보낼 수 없는 경우입니다.
+     * 업스트림 응답 처리 중에 발생하면 요청을 취소해 남은 본문을 읽지 않고 AI 서버 연결을 끊습니다.
+     */
+    private static class ClientDisconnectedException extends RuntimeException {
+        private ClientDisconnectedException(Throwable cause) {
+            super(cause.getMessage(), cause);
+        }
+    }
+}
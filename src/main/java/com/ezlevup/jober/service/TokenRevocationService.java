@@ -0,0 +1,185 @@
+package com.ezlevup.jober.service;
+
+import com.ezlevup.jober.entity.RevokedToken;
+import com.ezlevup.jober.repository.RevokedTokenRepository;
+import com.ezlevup.jober.util.BloomFilter;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 폐기된 JWT 의 ID(jti) 목록을 관리합니다.
+ * 폐기 목록은 토큰 만료 시각 기준 버킷에 나눠 담아, 만료된 버킷은 통째로 버립니다.
+ * 조회는 블룸 필터를 먼저 확인하므로 폐기되지 않은 토큰(대부분의 요청)은 I/O 와 잠금 없이 판별됩니다.
+ * 목록은 DB 에도 저장되어 재시작 후 복구되며, 다른 인스턴스의 폐기 내역은 주기적으로 동기화합니다.
+ */
+@Service
+public class TokenRevocationService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(TokenRevocationService.class);
+    
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final long bucketMillis;
+    private final long expectedRevocations;
+    private final double falsePositiveRate;
+    private final Duration syncOverlap;
+    
+    // 버킷 번호(만료 시각 / 버킷 크기) → 해당 구간에 만료되는 폐기 토큰 ID
+    private final ConcurrentSkipListMap<Long, Set<String>> buckets = new ConcurrentSkipListMap<>();
+    // 추가·재구성은 lock 안에서만 하고, 조회는 잠금 없이 현재 필터를 읽습니다.
+    private final Object lock = new Object();
+    private volatile BloomFilter bloomFilter;
+    private volatile long revokedCount;
+    private LocalDateTime lastSyncedAt;
+    
+    public TokenRevocationService(RevokedTokenRepository revokedTokenRepository,
+                                  @Value("${jwt.revocation.bucket-size:PT1H}") Duration bucketSize,
+                                  @Value("${jwt.revocation.expected-revocations:100000}") long expectedRevocations,
+                                  @Value("${jwt.revocation.false-positive-rate:0.001}") double falsePositiveRate,
+                                  @Value("${jwt.revocation.sync-overlap:PT1M}") Duration syncOverlap) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.bucketMillis = bucketSize.toMillis();
+        this.expectedRevocations = expectedRevocations;
+        this.falsePositiveRate = falsePositiveRate;
+        this.syncOverlap = syncOverlap;
+        this.bloomFilter = new BloomFilter(expectedRevocations, falsePositiveRate);
+    }
+    
+    @PostConstruct
+    void load() {
+        LocalDateTime now = nowUtc();
+        for (RevokedToken token : revokedTokenRepository.findByExpiresAtAfter(now)) {
+            remember(token.getJti(), toEpochMillis(token.getExpiresAt()));
+        }
+        lastSyncedAt = now;
+        logger.info("Loaded {} revoked tokens", revokedCount);
+    }
+    
+    /**
+     * 토큰을 폐기합니다. 이미 만료되었거나 ID 가 없는 토큰은 무시합니다.
+     */
+    public void revoke(String jti, Date expiration) {
+        if (jti == null || expiration == null || expiration.getTime() <= System.currentTimeMillis()) {
+            return;
+        }
+        
+        // ID 가 지정된 엔티티라 save 가 이미 있는 행은 병합하므로 따로 존재 여부를 확인하지 않습니다.
+        // 같은 토큰의 로그아웃이 동시에 들어와 둘 다 INSERT 하면 한쪽은 기본 키 충돌이 나지만, 이미 폐기된 것이므로 무시합니다.
+        try {
+            revokedTokenRepository.save(new RevokedToken(jti, toUtc(expiration.getTime()), nowUtc()));
+        } catch (DataIntegrityViolationException e) {
+            logger.debug("Token {} was already revoked concurrently", jti);
+        }
+        remember(jti, expiration.getTime());
+    }
+    
+    /**
+     * 폐기된 토큰인지 확인합니다. ID 가 없는 토큰(폐기 기능 도입 전 발급)은 폐기할 수 없으므로 false 입니다.
+     */
+    public boolean isRevoked(String jti, Date expiration) {
+        if (jti == null || expiration == null) {
+            return false;
+        }
+        if (!bloomFilter.mightContain(jti)) {
+            return false;
+        }
+        Set<String> bucket = buckets.get(bucketOf(expiration.getTime()));
+        return bucket != null && bucket.contains(jti);
+    }
+    
+    /**
+     * 다른 인스턴스가 추가한 폐기 목록을 가져오고, 만료된 버킷과 DB 행을 정리합니다.
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.sync-interval:PT1M}",
+               initialDelayString = "${jwt.revocation.sync-interval:PT1M}")
+    public void syncAndPurge() {
+        LocalDateTime now = nowUtc();
+        try {
+            // 인스턴스 간 시계 오차를 고려해 이전 동기화 시각보다 조금 앞부터 조회합니다.
+            for (RevokedToken token : revokedTokenRepository.findByRevokedAtAfter(lastSyncedAt.minus(syncOverlap))) {
+                if (!isRevoked(token.getJti(), new Date(toEpochMillis(token.getExpiresAt())))) {
+                    remember(token.getJti(), toEpochMillis(token.getExpiresAt()));
+                }
+            }
+            lastSyncedAt = now;
+            
+            purgeExpiredBuckets(System.currentTimeMillis());
+            int deleted = revokedTokenRepository.deleteExpired(now);
+            if (deleted > 0) {
+                logger.debug("Deleted {} expired revoked tokens", deleted);
+            }
+        } catch (Exception e) {
+            logger.warn("Failed to sync revoked tokens: {}", e.getMessage());
+        }
+    }
+    
+    public long getRevokedCount() {
+        return revokedCount;
+    }
+    
+    private void remember(String jti, long expiresAtMillis) {
+        synchronized (lock) {
+            Set<String> bucket = buckets.computeIfAbsent(bucketOf(expiresAtMillis), key -> ConcurrentHashMap.newKeySet());
+            if (bucket.add(jti)) {
+                revokedCount++;
+            }
+            bloomFilter.put(jti);
+        }
+    }
+    
+    private void purgeExpiredBuckets(long nowMillis) {
+        synchronized (lock) {
+            // 구간 끝이 현재 시각 이전인 버킷은 모든 토큰이 만료되었습니다.
+            NavigableMap<Long, Set<String>> expired = buckets.headMap(bucketOf(nowMillis), false);
+            if (expired.isEmpty()) {
+                return;
+            }
+            expired.clear();
+            
+            // 블룸 필터는 원소를 뺄 수 없으므로 남은 토큰으로 다시 만듭니다.
+            long remaining = 0;
+            for (Set<String> bucket : buckets.values()) {
+                remaining += bucket.size();
+            }
+            BloomFilter rebuilt = new BloomFilter(Math.max(expectedRevocations, remaining * 2), falsePositiveRate);
+            for (Map.Entry<Long, Set<String>> entry : buckets.entrySet()) {
+                for (String jti : entry.getValue()) {
+                    rebuilt.put(jti);
+                }
+            }
+            bloomFilter = rebuilt;
+            revokedCount = remaining;
+        }
+    }
+    
+    private long bucketOf(long epochMillis) {
+        return Math.floorDiv(epochMillis, bucketMillis);
+    }
+    
+    private static LocalDateTime nowUtc() {
+        return LocalDateTime.now(ZoneOffset.UTC);
+    }
+    
+    private static LocalDateTime toUtc(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneOffset.UTC);
+    }
+    
+    private static long toEpochMillis(LocalDateTime utc) {
+        return utc.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+}
@@ -0,0 +1,27 @@
+package com.ezlevup.jober.service;
+
+import com.ezlevup.jober.entity.User;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자가 저장되거나 닉네임이 바뀌면 가입 중복 확인용 블룸 필터에 반영합니다.
+ * Hibernate 가 스프링 빈으로 생성하며, 서비스는 EntityManagerFactory 와 순환 의존이 생기지 않도록 사용할 때 가져옵니다.
+ */
+@Component
+public class UserAvailabilityListener {
+
+    private final ObjectProvider<SignupAvailabilityService> signupAvailabilityService;
+
+    public UserAvailabilityListener(ObjectProvider<SignupAvailabilityService> signupAvailabilityService) {
+        this.signupAvailabilityService = signupAvailabilityService;
+    }
+
+    @PostPersist
+    @PostUpdate
+    void onSaved(User user) {
+        signupAvailabilityService.ifAvailable(service -> service.register(user));
+    }
+}
@@ -5,31 +5,65 @@ import com.ezlevup.jober.dto.SignupRequest;
 import com.ezlevup.jober.entity.User;
 import com.ezlevup.jober.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.regex.Pattern;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class UserService {
     
+    private static final Pattern EMAIL_PATTERN = Pattern.compile("^[A-Za-z0-9+_.-]+@(.+)$");
+    private static final String EMAIL_TAKEN_MESSAGE = "이미 사용 중인 이메일입니다.";
+    private static final String NICKNAME_TAKEN_MESSAGE = "이미 사용 중인 닉네임입니다.";
+    
+    /** 검증 후 저장하는 사이에 다른 요청이 같은 이메일·닉네임으로 먼저 가입한 경우 */
+    public static class DuplicateUserException extends RuntimeException {
+        private final Map<String, String> errors;
+        
+        public DuplicateUserException(Map<String, String> errors) {
+            super("Email or nickname already taken: " + errors.keySet());
+            this.errors = errors;
+        }
+        
+        public Map<String, String> getErrors() {
+            return errors;
+        }
+    }
+    
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final SignupAvailabilityService signupAvailabilityService;
     
+    @Transactional(readOnly = true)
     public Map<String, String> validateSignupRequest(SignupRequest request) {
         Map<String, String> errors = new HashMap<>();
         
-        if (request.getEmail() == null || request.getEmail().trim().isEmpty()) {
+        String email = request.getEmail();
+        boolean emailPresent = email != null && !email.trim().isEmpty();
+        boolean emailValid = emailPresent && isValidEmail(email);
+        String nickname = request.getNickname();
+        boolean nicknamePresent = nickname != null && !nickname.trim().isEmpty();
+        
+        // 형식이 올바른 값만 이메일·닉네임을 묶어 한 번에 중복 확인합니다.
+        // 블룸 필터는 다른 인스턴스에서 가입한 사용자를 모르므로 저장 경로에서는 항상 DB 로 확인합니다.
+        SignupAvailabilityService.Availability availability = signupAvailabilityService.verify(
+            emailValid ? email : null, nicknamePresent ? nickname : null);
+        
+        if (!emailPresent) {
             errors.put("email", "이메일은 필수입니다.");
-        } else if (!isValidEmail(request.getEmail())) {
+        } else if (!emailValid) {
             errors.put("email", "올바른 이메일 형식이 아닙니다.");
-        } else if (userRepository.existsByEmail(request.getEmail())) {
-            errors.put("email", "이미 사용 중인 이메일입니다.");
+        } else if (availability.emailTaken()) {
+            errors.put("email", EMAIL_TAKEN_MESSAGE);
         }
         
         if (request.getPassword() == null || request.getPassword().trim().isEmpty()) {
@@ -38,15 +72,21 @@ public class UserService {
             errors.put("password", "비밀번호는 8자 이상이어야 합니다.");
         }
         
-        if (request.getNickname() == null || request.getNickname().trim().isEmpty()) {
+        if (!nicknamePresent) {
             errors.put("nickname", "닉네임은 필수입니다.");
-        } else if (userRepository.existsByNickname(request.getNickname())) {
-            errors.put("nickname", "이미 사용 중인 닉네임입니다.");
+        } else if (availability.nicknameTaken()) {
+            errors.put("nickname", NICKNAME_TAKEN_MESSAGE);
         }
         
         return errors;
     }
     
+    /**
+     * 사용자를 저장합니다. 검증 이후 같은 이메일·닉네임이 먼저 저장되어 유니크 제약에 걸리면
+     * {@link DuplicateUserException} 으로 검증과 같은 필드 오류를 전달합니다.
+     */
+    // 제약 위반으로 실패한 트랜잭션을 이어 쓰지 않도록 저장은 저장소의 트랜잭션에서 따로 실행합니다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public User createUser(SignupRequest request) {
         String encodedPassword = passwordEncoder.encode(request.getPassword());
         
@@ -55,9 +95,28 @@ public class UserService {
         user.setPassword(encodedPassword);
         user.setNickname(request.getNickname());
         
-        return userRepository.save(user);
+        try {
+            return userRepository.save(user);
+        } catch (DataIntegrityViolationException e) {
+            SignupAvailabilityService.Availability availability =
+                signupAvailabilityService.verify(request.getEmail(), request.getNickname());
+            Map<String, String> errors = new HashMap<>();
+            if (availability.emailTaken()) {
+                errors.put("email", EMAIL_TAKEN_MESSAGE);
+            }
+            if (availability.nicknameTaken()) {
+                errors.put("nickname", NICKNAME_TAKEN_MESSAGE);
+            }
+            if (errors.isEmpty()) {
+                throw e;
+            }
+            throw new DuplicateUserException(errors);
+        }
     }
     
+    // BCrypt 작업 큐를 기다리는 동안 DB 커넥션을 붙잡지 않도록 트랜잭션 밖에서 해시를 검증하고,
+    // 재해시한 비밀번호만 저장소의 트랜잭션에서 저장합니다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public User loginUser(LoginRequest request) {
         Optional<User> userOpt = userRepository.findByEmail(request.getEmail());
         if (userOpt.isEmpty()) {
@@ -66,13 +125,18 @@ public class UserService {
         
         User user = userOpt.get();
         if (passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+            // 저장된 해시의 비용이 현재 설정보다 낮으면 평문을 알고 있는 지금 다시 해시해 둡니다.
+            if (passwordEncoder.upgradeEncoding(user.getPassword())) {
+                user.setPassword(passwordEncoder.encode(request.getPassword()));
+                user = userRepository.save(user);
+            }
             return user;
         }
         
         return null;
     }
     
-    private boolean isValidEmail(String email) {
-        return email.matches("^[A-Za-z0-9+_.-]+@(.+)$");
+    public static boolean isValidEmail(String email) {
+        return EMAIL_PATTERN.matcher(email).matches();
     }
 }
\ No newline at end of file
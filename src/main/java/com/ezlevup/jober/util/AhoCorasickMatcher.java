@@ -0,0 +1,129 @@
+package com.ezlevup.jober.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 여러 키워드를 입력 문자열에서 한 번의 순회로 찾는 Aho-Corasick 오토마톤입니다.
+ * 각 키워드에는 우선순위(작을수록 우선)가 있으며, 입력에 나타난 키워드 중 가장 높은 우선순위를 반환합니다.
+ * 생성 후에는 불변이므로 여러 스레드에서 동시에 사용할 수 있습니다. 대소문자는 구분하지 않습니다.
+ */
+public final class AhoCorasickMatcher {
+
+    public static final int NO_MATCH = -1;
+
+    private static final int ROOT = 0;
+
+    // 노드별 전이: 정렬된 문자 배열과 같은 위치의 다음 노드
+    private final char[][] transitionChars;
+    private final int[][] transitionTargets;
+    private final int[] failure;
+    // 해당 노드에서 끝나는(실패 링크로 도달 가능한 것 포함) 키워드의 최고 우선순위
+    private final int[] bestPriority;
+
+    public AhoCorasickMatcher(Map<String, Integer> keywordPriorities) {
+        List<TreeMap<Character, Integer>> children = new ArrayList<>();
+        List<Integer> outputs = new ArrayList<>();
+        children.add(new TreeMap<>());
+        outputs.add(Integer.MAX_VALUE);
+
+        for (Map.Entry<String, Integer> entry : keywordPriorities.entrySet()) {
+            String keyword = entry.getKey();
+            if (keyword == null || keyword.isEmpty()) {
+                continue;
+            }
+            int node = ROOT;
+            for (int i = 0; i < keyword.length(); i++) {
+                char c = Character.toLowerCase(keyword.charAt(i));
+                Integer next = children.get(node).get(c);
+                if (next == null) {
+                    next = children.size();
+                    children.add(new TreeMap<>());
+                    outputs.add(Integer.MAX_VALUE);
+                    children.get(node).put(c, next);
+                }
+                node = next;
+            }
+            outputs.set(node, Math.min(outputs.get(node), entry.getValue()));
+        }
+
+        int size = children.size();
+        this.transitionChars = new char[size][];
+        this.transitionTargets = new int[size][];
+        this.failure = new int[size];
+        this.bestPriority = new int[size];
+
+        for (int node = 0; node < size; node++) {
+            TreeMap<Character, Integer> edges = children.get(node);
+            transitionChars[node] = new char[edges.size()];
+            transitionTargets[node] = new int[edges.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+                transitionChars[node][i] = edge.getKey();
+                transitionTargets[node][i] = edge.getValue();
+                i++;
+            }
+            bestPriority[node] = outputs.get(node);
+        }
+
+        // 너비 우선으로 실패 링크를 계산하고, 실패 링크 쪽 출력을 미리 합쳐 둡니다.
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int child : transitionTargets[ROOT]) {
+            failure[child] = ROOT;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            for (int i = 0; i < transitionChars[node].length; i++) {
+                char c = transitionChars[node][i];
+                int child = transitionTargets[node][i];
+                int fallback = failure[node];
+                int target;
+                while ((target = transition(fallback, c)) < 0 && fallback != ROOT) {
+                    fallback = failure[fallback];
+                }
+                failure[child] = target >= 0 ? target : ROOT;
+                bestPriority[child] = Math.min(bestPriority[child], bestPriority[failure[child]]);
+                queue.add(child);
+            }
+        }
+    }
+
+    /**
+     * 입력에 포함된 키워드 중 가장 높은 우선순위를 반환합니다. 일치하는 키워드가 없으면 {@link #NO_MATCH} 입니다.
+     */
+    public int match(CharSequence text) {
+        if (text == null) {
+            return NO_MATCH;
+        }
+
+        int state = ROOT;
+        int best = Integer.MAX_VALUE;
+        for (int i = 0; i < text.length(); i++) {
+            char c = Character.toLowerCase(text.charAt(i));
+            int next;
+            while ((next = transition(state, c)) < 0 && state != ROOT) {
+                state = failure[state];
+            }
+            state = next >= 0 ? next : ROOT;
+
+            if (bestPriority[state] < best) {
+                best = bestPriority[state];
+                if (best == 0) {
+                    break;
+                }
+            }
+        }
+        return best == Integer.MAX_VALUE ? NO_MATCH : best;
+    }
+
+    private int transition(int node, char c) {
+        int index = Arrays.binarySearch(transitionChars[node], c);
+        return index >= 0 ? transitionTargets[node][index] : -1;
+    }
+}
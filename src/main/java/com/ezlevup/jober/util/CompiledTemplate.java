@@ -0,0 +1,107 @@
+package com.ezlevup.jober.util;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@code #{변수명}} 자리표시자가 들어 있는 문자열을 리터럴/슬롯 배열로 미리 분해한 형태입니다.
+ * 렌더링은 배열을 순서대로 이어 붙이기만 하므로 정규식이나 중간 문자열 없이 결과 문자열 하나만 만듭니다.
+ * 생성 후에는 불변이므로 여러 스레드에서 공유할 수 있습니다.
+ */
+public final class CompiledTemplate {
+
+    private static final String PLACEHOLDER_START = "#{";
+    private static final char PLACEHOLDER_END = '}';
+    // 변수 값의 평균 길이 추정치 (StringBuilder 초기 용량 계산용)
+    private static final int ESTIMATED_VALUE_LENGTH = 16;
+
+    // literals.length == slots.length + 1, 렌더링 결과는 literals[0] slots[0] literals[1] ... 순서
+    private final String[] literals;
+    private final String[] slots;
+    private final int literalLength;
+    private final List<String> variableNames;
+
+    private CompiledTemplate(String[] literals, String[] slots) {
+        this.literals = literals;
+        this.slots = slots;
+
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+
+        Set<String> names = new LinkedHashSet<>();
+        for (String slot : slots) {
+            names.add(slot);
+        }
+        this.variableNames = List.copyOf(names);
+    }
+
+    public static CompiledTemplate compile(String content) {
+        if (content == null) {
+            return new CompiledTemplate(new String[]{""}, new String[0]);
+        }
+
+        List<String> literals = new ArrayList<>();
+        List<String> slots = new ArrayList<>();
+        int position = 0;
+        while (true) {
+            int start = content.indexOf(PLACEHOLDER_START, position);
+            int end = start < 0 ? -1 : content.indexOf(PLACEHOLDER_END, start + PLACEHOLDER_START.length());
+            if (end < 0) {
+                literals.add(content.substring(position));
+                break;
+            }
+            literals.add(content.substring(position, start));
+            slots.add(content.substring(start + PLACEHOLDER_START.length(), end));
+            position = end + 1;
+        }
+
+        return new CompiledTemplate(literals.toArray(new String[0]), slots.toArray(new String[0]));
+    }
+
+    /**
+     * 변수 값을 채워 넣은 문자열을 반환합니다. 값이 없는 변수는 {@code #{변수명}} 그대로 남겨 둡니다.
+     *
+     * @param variables 변수명({@code #{}} 제외)과 값
+     */
+    public String render(Map<String, String> variables) {
+        StringBuilder rendered = new StringBuilder(literalLength + slots.length * ESTIMATED_VALUE_LENGTH);
+        rendered.append(literals[0]);
+        for (int i = 0; i < slots.length; i++) {
+            String value = variables.get(slots[i]);
+            if (value != null) {
+                rendered.append(value);
+            } else {
+                rendered.append(PLACEHOLDER_START).append(slots[i]).append(PLACEHOLDER_END);
+            }
+            rendered.append(literals[i + 1]);
+        }
+        return rendered.toString();
+    }
+
+    /**
+     * 주어진 값 목록에 없는 변수명을 등장 순서대로 반환합니다.
+     */
+    public List<String> missingVariables(Map<String, String> variables) {
+        List<String> missing = null;
+        for (String name : variableNames) {
+            if (variables.get(name) == null) {
+                if (missing == null) {
+                    missing = new ArrayList<>();
+                }
+                missing.add(name);
+            }
+        }
+        return missing == null ? List.of() : missing;
+    }
+
+    /** 템플릿에 사용된 변수명 (중복 제거, 등장 순서) */
+    public List<String> getVariableNames() {
+        return variableNames;
+    }
+}
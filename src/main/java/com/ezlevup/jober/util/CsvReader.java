@@ -0,0 +1,214 @@
+package com.ezlevup.jober.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * RFC 4180 형식의 CSV 를 한 레코드씩 읽는 리더입니다.
+ * 고정 크기 버퍼로 입력을 조금씩 읽으므로 파일 크기와 관계없이 현재 레코드만큼의 메모리만 사용합니다.
+ * 큰따옴표로 감싼 필드 안의 쉼표·줄바꿈·이스케이프된 따옴표({@code ""})와 UTF-8 BOM 을 처리합니다.
+ * 필드가 너무 길거나 많은 레코드는 끝까지 건너뛴 뒤 {@link CsvRecordException} 으로 알리므로 다음 레코드를 이어서 읽을 수 있습니다.
+ */
+public final class CsvReader implements Closeable {
+
+    /** 잘못된 CSV 형식 (닫히지 않은 따옴표 등). 이후 레코드의 경계를 신뢰할 수 없습니다. */
+    public static class CsvFormatException extends IOException {
+        public CsvFormatException(String message) {
+            super(message);
+        }
+    }
+
+    /** 한 레코드만 잘못된 경우 (너무 긴 필드, 너무 많은 필드). 해당 레코드는 이미 건너뛰었습니다. */
+    public static class CsvRecordException extends CsvFormatException {
+        public CsvRecordException(String message) {
+            super(message);
+        }
+    }
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final char BOM = '\uFEFF';
+
+    private final Reader reader;
+    private final int maxFieldLength;
+    private final int maxFields;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private final StringBuilder field = new StringBuilder();
+    private int position;
+    private int limit;
+    private long lineNumber = 1;
+    private boolean started;
+    // 현재 레코드에서 발견한 오류. 설정되면 레코드 끝까지 값을 버리며 읽습니다.
+    private String recordError;
+
+    public CsvReader(Reader reader, int maxFieldLength, int maxFields) {
+        this.reader = reader;
+        this.maxFieldLength = maxFieldLength;
+        this.maxFields = maxFields;
+    }
+
+    /**
+     * 다음 레코드의 필드 목록을 반환합니다. 입력이 끝났으면 {@code null} 입니다.
+     * 빈 줄은 건너뜁니다.
+     *
+     * @throws CsvRecordException 현재 레코드만 잘못된 경우. 다시 호출하면 다음 레코드를 읽습니다.
+     * @throws CsvFormatException 따옴표가 깨져 더 읽을 수 없는 경우
+     */
+    public List<String> readRecord() throws IOException {
+        if (!started) {
+            started = true;
+            if (fill() && buffer[position] == BOM) {
+                position++;
+            }
+        }
+
+        while (true) {
+            if (position >= limit && !fill()) {
+                return null;
+            }
+            char c = buffer[position];
+            if (c == '\r' || c == '\n') {
+                consumeLineBreak();
+                continue;
+            }
+            return readFields();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private List<String> readFields() throws IOException {
+        List<String> fields = new ArrayList<>();
+        recordError = null;
+        while (true) {
+            field.setLength(0);
+            int next = peek();
+            if (next == '"') {
+                position++;
+                readQuoted();
+                next = peek();
+                if (next != ',' && next != '\r' && next != '\n' && next != -1) {
+                    throw new CsvFormatException("Unexpected character after closing quote at line " + lineNumber);
+                }
+            } else {
+                next = readUnquoted();
+            }
+            if (recordError == null && fields.size() >= maxFields) {
+                recordError = "Record exceeds " + maxFields + " fields at line " + lineNumber;
+            }
+            if (recordError == null) {
+                fields.add(field.toString());
+            }
+
+            if (next == ',') {
+                position++;
+                continue;
+            }
+            if (next != -1) {
+                consumeLineBreak();
+            }
+            if (recordError != null) {
+                throw new CsvRecordException(recordError);
+            }
+            return fields;
+        }
+    }
+
+    private int readUnquoted() throws IOException {
+        while (true) {
+            if (position >= limit && !fill()) {
+                return -1;
+            }
+            int start = position;
+            while (position < limit) {
+                char c = buffer[position];
+                if (c == ',' || c == '\r' || c == '\n') {
+                    append(start, position);
+                    return c;
+                }
+                position++;
+            }
+            append(start, position);
+        }
+    }
+
+    private void readQuoted() throws IOException {
+        segments:
+        while (true) {
+            if (position >= limit && !fill()) {
+                throw new CsvFormatException("Unterminated quoted field at line " + lineNumber);
+            }
+            int start = position;
+            while (position < limit) {
+                char c = buffer[position];
+                if (c == '"') {
+                    append(start, position);
+                    position++;
+                    // 따옴표 두 개는 필드 안의 따옴표 하나입니다.
+                    if (peek() == '"') {
+                        if (recordError == null) {
+                            field.append('"');
+                        }
+                        position++;
+                        continue segments;
+                    }
+                    return;
+                }
+                if (c == '\n') {
+                    lineNumber++;
+                }
+                position++;
+            }
+            append(start, position);
+        }
+    }
+
+    private void consumeLineBreak() throws IOException {
+        if (buffer[position] == '\r') {
+            position++;
+            if (peek() == '\n') {
+                position++;
+            }
+        } else {
+            position++;
+        }
+        lineNumber++;
+    }
+
+    private int peek() throws IOException {
+        if (position >= limit && !fill()) {
+            return -1;
+        }
+        return buffer[position];
+    }
+
+    private void append(int start, int end) {
+        if (recordError != null) {
+            return;
+        }
+        field.append(buffer, start, end - start);
+        if (field.length() > maxFieldLength) {
+            recordError = "Field exceeds " + maxFieldLength + " characters at line " + lineNumber;
+            field.setLength(0);
+        }
+    }
+
+    private boolean fill() throws IOException {
+        int read;
+        do {
+            read = reader.read(buffer, 0, BUFFER_SIZE);
+        } while (read == 0);
+        if (read < 0) {
+            position = limit = 0;
+            return false;
+        }
+        position = 0;
+        limit = read;
+        return true;
+    }
+}
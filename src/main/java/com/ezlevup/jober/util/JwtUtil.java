@@ -1,37 +1,88 @@
 package com.ezlevup.jober.util;
 
+import com.ezlevup.jober.security.JwtKeyRing;
+import com.ezlevup.jober.security.JwtPrincipal;
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import javax.crypto.SecretKey;
+import java.security.interfaces.RSAPrivateKey;
+import java.util.Collection;
 import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 @Component
 public class JwtUtil {
     
-    @Value("${jwt.secret:mySecretKeyForJWTTokenGenerationThatShouldBeAtLeast32Characters}")
-    private String secret;
+    private final JwtKeyRing keyRing;
     
-    @Value("${jwt.expiration:86400000}") // 24시간 (밀리초)
+    @Value("${jwt.expiration:900000}") // 15분 (밀리초), 이후에는 리프레시 토큰으로 재발급
     private Long expiration;
     
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes());
+    // 파서는 불변이고 스레드 안전하므로 기동 시 한 번만 만듭니다. 검증 키는 kid 로 키 모음에서 찾습니다.
+    private JwtParser parser;
+    
+    public JwtUtil(JwtKeyRing keyRing) {
+        this.keyRing = keyRing;
+    }
+    
+    @PostConstruct
+    public void init() {
+        this.parser = Jwts.parser()
+                .keyLocator(keyRing)
+                .build();
     }
     
     public String generateToken(String email, Long userId) {
+        return generateToken(email, userId, null, List.of());
+    }
+    
+    /**
+     * 닉네임과 역할 클레임을 함께 담은 토큰을 발급합니다.
+     * 인증 필터는 이 클레임으로 인증 주체를 만들므로 요청마다 사용자 테이블을 조회하지 않습니다.
+     */
+    public String generateToken(String email, Long userId, String nickname, Collection<String> roles) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + expiration);
         
-        return Jwts.builder()
+        JwtKeyRing.SigningKey signingKey = keyRing.activeKey();
+        
+        JwtBuilder builder = Jwts.builder()
+                .header().keyId(signingKey.kid()).and()
+                .id(UUID.randomUUID().toString())
                 .subject(email)
-                .claim("userId", userId)
+                .claim(JwtPrincipal.CLAIM_USER_ID, userId)
                 .issuedAt(now)
-                .expiration(expiryDate)
-                .signWith(getSigningKey())
-                .compact();
+                .expiration(expiryDate);
+        if (nickname != null) {
+            builder.claim(JwtPrincipal.CLAIM_NICKNAME, nickname);
+        }
+        if (roles != null && !roles.isEmpty()) {
+            builder.claim(JwtPrincipal.CLAIM_ROLES, List.copyOf(roles));
+        }
+        
+        // RSA 는 키 길이에 따라 RS384/RS512 가 자동 선택되므로, JWKS 에 게시한 RS256 으로 고정합니다.
+        if (signingKey.key() instanceof RSAPrivateKey rsa) {
+            builder.signWith(rsa, Jwts.SIG.RS256);
+        } else {
+            builder.signWith(signingKey.key());
+        }
+        return builder.compact();
+    }
+    
+    /**
+     * 토큰의 서명과 만료 시각을 한 번에 검증하고 클레임을 반환합니다.
+     * 서명이 맞지 않거나, 형식이 잘못되었거나, 만료된 토큰이면 빈 값을 반환합니다.
+     */
+    public Optional<Claims> parseClaims(String token) {
+        try {
+            return Optional.of(getClaimsFromToken(token));
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
     }
     
     public String getEmailFromToken(String token) {
@@ -41,16 +92,11 @@ public class JwtUtil {
     
     public Long getUserIdFromToken(String token) {
         Claims claims = getClaimsFromToken(token);
-        return claims.get("userId", Long.class);
+        return claims.get(JwtPrincipal.CLAIM_USER_ID, Long.class);
     }
     
     public boolean validateToken(String token) {
-        try {
-            getClaimsFromToken(token);
-            return true;
-        } catch (JwtException | IllegalArgumentException e) {
-            return false;
-        }
+        return parseClaims(token).isPresent();
     }
     
     public boolean isTokenExpired(String token) {
@@ -63,10 +109,6 @@ public class JwtUtil {
     }
     
     private Claims getClaimsFromToken(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,71 @@
+package com.ezlevup.jober.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 키별 토큰 버킷 제한기입니다. GCRA(Generic Cell Rate Algorithm) 방식으로 키마다 "다음 요청이 이론상 도착할 시각"
+ * 하나만 {@link AtomicLong} 에 저장하고 CAS 로 갱신하므로 잠금이 없고, 키 간 경합은 캐시의 분할된 해시 테이블이 흡수합니다.
+ * 한동안 요청이 없는 키는 버킷이 가득 찬 상태와 같으므로 캐시에서 만료시켜 메모리를 제한합니다.
+ */
+public final class RateLimiter {
+
+    private final long emissionIntervalNanos;
+    private final long burstNanos;
+    private final LongSupplier nanoClock;
+    private final Cache<String, AtomicLong> arrivals;
+
+    /**
+     * @param permits  period 동안 허용할 요청 수
+     * @param period   허용량을 채우는 기간
+     * @param burst    한꺼번에 허용할 최대 요청 수 (버킷 크기)
+     * @param maxKeys  상태를 보관할 최대 키 수
+     */
+    public RateLimiter(int permits, Duration period, int burst, long maxKeys) {
+        this(permits, period, burst, maxKeys, System::nanoTime);
+    }
+
+    RateLimiter(int permits, Duration period, int burst, long maxKeys, LongSupplier nanoClock) {
+        if (permits <= 0 || burst <= 0) {
+            throw new IllegalArgumentException("permits and burst must be positive");
+        }
+        this.emissionIntervalNanos = Math.max(1, period.toNanos() / permits);
+        this.burstNanos = emissionIntervalNanos * burst;
+        this.nanoClock = nanoClock;
+        this.arrivals = Caffeine.newBuilder()
+            .maximumSize(maxKeys)
+            .expireAfterAccess(burstNanos, TimeUnit.NANOSECONDS)
+            .ticker(nanoClock::getAsLong)
+            .build();
+    }
+
+    /**
+     * 요청 하나를 허용할지 판단합니다.
+     *
+     * @return 허용하면 0, 거절하면 다음 요청이 허용될 때까지 기다려야 하는 시간 (나노초)
+     */
+    public long tryAcquire(String key) {
+        AtomicLong arrival = arrivals.get(key, k -> new AtomicLong(nanoClock.getAsLong()));
+        while (true) {
+            long now = nanoClock.getAsLong();
+            long current = arrival.get();
+            long next = Math.max(current, now) + emissionIntervalNanos;
+            long wait = next - now - burstNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (arrival.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    public long estimatedSize() {
+        return arrivals.estimatedSize();
+    }
+}
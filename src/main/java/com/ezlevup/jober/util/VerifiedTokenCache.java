@@ -0,0 +1,121 @@
+package com.ezlevup.jober.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.jsonwebtoken.Claims;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Date;
+import java.util.Optional;
+
+/**
+ * 서명 검증을 통과한 토큰의 클레임을 토큰의 SHA-256 다이제스트로 보관합니다.
+ * 같은 토큰이 다시 오면 서명 검증과 JSON 파싱 없이 클레임을 돌려주며, 항목은 토큰의 exp 시각에 만료됩니다.
+ * 토큰 원문은 보관하지 않고, 검증에 실패한 토큰은 캐시하지 않습니다.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    // 다이제스트 키, 클레임 맵, Caffeine 노드 등 항목당 고정 비용 추정치 (바이트)
+    private static final int ENTRY_OVERHEAD_BYTES = 512;
+
+    private record TokenDigest(long d0, long d1, long d2, long d3) {
+
+        static TokenDigest of(String token) {
+            try {
+                byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+                ByteBuffer buffer = ByteBuffer.wrap(digest);
+                return new TokenDigest(buffer.getLong(), buffer.getLong(), buffer.getLong(), buffer.getLong());
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 is not available", e);
+            }
+        }
+    }
+
+    private record VerifiedClaims(Claims claims, long expiresAtMillis, int weight) {
+    }
+
+    private final JwtUtil jwtUtil;
+    private final boolean enabled;
+    private final Cache<TokenDigest, VerifiedClaims> cache;
+
+    public VerifiedTokenCache(JwtUtil jwtUtil,
+                              @Value("${jwt.cache.enabled:true}") boolean enabled,
+                              @Value("${jwt.cache.max-memory:16MB}") DataSize maxMemory) {
+        this.jwtUtil = jwtUtil;
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+            .maximumWeight(maxMemory.toBytes())
+            .weigher((TokenDigest key, VerifiedClaims value) -> value.weight())
+            .expireAfter(new Expiry<TokenDigest, VerifiedClaims>() {
+                @Override
+                public long expireAfterCreate(TokenDigest key, VerifiedClaims value, long currentTime) {
+                    return remainingNanos(value);
+                }
+
+                @Override
+                public long expireAfterUpdate(TokenDigest key, VerifiedClaims value, long currentTime, long currentDuration) {
+                    return remainingNanos(value);
+                }
+
+                @Override
+                public long expireAfterRead(TokenDigest key, VerifiedClaims value, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .recordStats()
+            .build();
+    }
+
+    /**
+     * 토큰을 검증하고 클레임을 반환합니다. 캐시에 있으면 서명 검증을 건너뜁니다.
+     * 검증에 실패하거나 만료된 토큰이면 빈 값을 반환합니다.
+     */
+    public Optional<Claims> verify(String token) {
+        if (!enabled) {
+            return jwtUtil.parseClaims(token);
+        }
+
+        TokenDigest key = TokenDigest.of(token);
+        VerifiedClaims cached = cache.getIfPresent(key);
+        if (cached != null && cached.expiresAtMillis() > System.currentTimeMillis()) {
+            return Optional.of(cached.claims());
+        }
+
+        Optional<Claims> claims = jwtUtil.parseClaims(token);
+        claims.ifPresent(verified -> {
+            Date expiration = verified.getExpiration();
+            // 만료 시각이 없는 토큰은 캐시에서 언제 빼야 할지 알 수 없으므로 보관하지 않습니다.
+            if (expiration != null) {
+                cache.put(key, new VerifiedClaims(verified, expiration.getTime(), ENTRY_OVERHEAD_BYTES + token.length()));
+            }
+        });
+        return claims;
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    /** 메트릭 등록용 원본 캐시 */
+    public Cache<?, ?> nativeCache() {
+        return cache;
+    }
+
+    private static long remainingNanos(VerifiedClaims value) {
+        long remainingMillis = value.expiresAtMillis() - System.currentTimeMillis();
+        return Math.max(0, remainingMillis) * 1_000_000L;
+    }
+}
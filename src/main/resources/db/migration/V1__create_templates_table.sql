@@ -0,0 +1,10 @@
+CREATE TABLE templates (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    user_id BIGINT NOT NULL,
+    ai_res TEXT NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+-- "내 템플릿" 목록의 키셋 페이지네이션 (user_id = ? ORDER BY created_at DESC, id DESC)
+CREATE INDEX idx_templates_user_created ON templates (user_id, created_at DESC, id DESC);
@@ -0,0 +1,12 @@
+CREATE TABLE revoked_tokens (
+    jti VARCHAR(64) NOT NULL,
+    expires_at TIMESTAMP(6) NOT NULL,
+    revoked_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (jti)
+);
+
+-- 만료된 항목 일괄 삭제 (expires_at < ?)
+CREATE INDEX idx_revoked_tokens_expires_at ON revoked_tokens (expires_at);
+
+-- 다른 인스턴스가 추가한 폐기 목록 동기화 (revoked_at > ?)
+CREATE INDEX idx_revoked_tokens_revoked_at ON revoked_tokens (revoked_at);
@@ -0,0 +1,20 @@
+CREATE TABLE refresh_tokens (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    user_id BIGINT NOT NULL,
+    family_id VARCHAR(36) NOT NULL,
+    token_hash VARCHAR(64) NOT NULL,
+    expires_at TIMESTAMP(6) NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    used_at TIMESTAMP(6),
+    revoked BOOLEAN NOT NULL,
+    PRIMARY KEY (id)
+);
+
+-- 재발급 요청 시 토큰 해시 한 번으로 조회
+CREATE UNIQUE INDEX uk_refresh_tokens_token_hash ON refresh_tokens (token_hash);
+
+-- 재사용 감지 시 family 전체 폐기
+CREATE INDEX idx_refresh_tokens_family ON refresh_tokens (family_id);
+
+-- 만료된 토큰 일괄 삭제
+CREATE INDEX idx_refresh_tokens_expires_at ON refresh_tokens (expires_at);
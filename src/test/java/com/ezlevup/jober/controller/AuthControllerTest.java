@@ -13,6 +13,7 @@ import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.junit.jupiter.api.AfterEach;
@@ -152,4 +153,95 @@ class AuthControllerTest {
         Map<String, String> fieldErrors = (Map<String, String>) response.getBody().get("fieldErrors");
         assertThat(fieldErrors.get("password")).isEqualTo("비밀번호는 8자 이상이어야 합니다.");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("로그아웃한 토큰으로 인증 필요 API 호출 - 실패")
+    void logout_revokesToken() throws Exception {
+        SignupRequest request = new SignupRequest();
+        request.setEmail("logout@example.com");
+        request.setPassword("password123");
+        request.setNickname("로그아웃테스터");
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        ResponseEntity<Map> signupResponse = restTemplate.postForEntity(
+            baseUrl + "/signup", new HttpEntity<>(request, headers), Map.class);
+        Map<String, Object> data = (Map<String, Object>) signupResponse.getBody().get("data");
+        String token = (String) data.get("token");
+
+        HttpHeaders authHeaders = new HttpHeaders();
+        authHeaders.setBearerAuth(token);
+        HttpEntity<Void> authEntity = new HttpEntity<>(authHeaders);
+
+        ResponseEntity<Map> beforeLogout = restTemplate.exchange(
+            baseUrl + "/templates/my", HttpMethod.GET, authEntity, Map.class);
+        ResponseEntity<Map> logoutResponse = restTemplate.postForEntity(
+            baseUrl + "/logout", authEntity, Map.class);
+        ResponseEntity<Map> afterLogout = restTemplate.exchange(
+            baseUrl + "/templates/my", HttpMethod.GET, authEntity, Map.class);
+
+        assertThat(beforeLogout.getStatusCode().is2xxSuccessful()).isTrue();
+        assertThat(logoutResponse.getStatusCode().is2xxSuccessful()).isTrue();
+        assertThat(afterLogout.getStatusCode().is4xxClientError()).isTrue();
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰 교체 후 이전 토큰 재사용 시 family 전체 폐기")
+    void refreshToken_rotationAndReuseDetection() throws Exception {
+        SignupRequest request = new SignupRequest();
+        request.setEmail("refresh@example.com");
+        request.setPassword("password123");
+        request.setNickname("재발급테스터");
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        ResponseEntity<Map> signupResponse = restTemplate.postForEntity(
+            baseUrl + "/signup", new HttpEntity<>(request, headers), Map.class);
+        String firstRefreshToken = (String) ((Map<String, Object>) signupResponse.getBody().get("data")).get("refreshToken");
+
+        ResponseEntity<Map> rotated = restTemplate.postForEntity(
+            baseUrl + "/token/refresh", new HttpEntity<>(Map.of("refreshToken", firstRefreshToken), headers), Map.class);
+        String secondRefreshToken = (String) ((Map<String, Object>) rotated.getBody().get("data")).get("refreshToken");
+
+        ResponseEntity<Map> reused = restTemplate.postForEntity(
+            baseUrl + "/token/refresh", new HttpEntity<>(Map.of("refreshToken", firstRefreshToken), headers), Map.class);
+        ResponseEntity<Map> afterReuse = restTemplate.postForEntity(
+            baseUrl + "/token/refresh", new HttpEntity<>(Map.of("refreshToken", secondRefreshToken), headers), Map.class);
+
+        assertThat(rotated.getStatusCode().is2xxSuccessful()).isTrue();
+        assertThat(secondRefreshToken).isNotEqualTo(firstRefreshToken);
+        assertThat(reused.getStatusCode().value()).isEqualTo(401);
+        assertThat(afterReuse.getStatusCode().value()).isEqualTo(401);
+    }
+
+    @Test
+    @DisplayName("회원가입 이메일·닉네임 사용 가능 여부 확인")
+    void signupAvailability() throws Exception {
+        // given
+        User existingUser = new User();
+        existingUser.setEmail("taken@example.com");
+        existingUser.setPassword("encodedPassword");
+        existingUser.setNickname("사용중닉네임");
+        userRepository.save(existingUser);
+
+        // when
+        ResponseEntity<Map> taken = restTemplate.getForEntity(
+            baseUrl + "/signup/availability?email={email}&nickname={nickname}", Map.class,
+            "taken@example.com", "사용중닉네임");
+        ResponseEntity<Map> available = restTemplate.getForEntity(
+            baseUrl + "/signup/availability?email={email}", Map.class, "new@example.com");
+        ResponseEntity<Map> invalid = restTemplate.getForEntity(
+            baseUrl + "/signup/availability?email={email}", Map.class, "invalid-email");
+
+        // then
+        Map<String, Object> takenData = (Map<String, Object>) taken.getBody().get("data");
+        assertThat(takenData.get("emailAvailable")).isEqualTo(false);
+        assertThat(takenData.get("nicknameAvailable")).isEqualTo(false);
+
+        Map<String, Object> availableData = (Map<String, Object>) available.getBody().get("data");
+        assertThat(availableData.get("emailAvailable")).isEqualTo(true);
+        assertThat(availableData).doesNotContainKey("nicknameAvailable");
+
+        assertThat(invalid.getStatusCode().value()).isEqualTo(400);
+    }
+}
@@ -0,0 +1,84 @@
+package com.ezlevup.jober.filter;
+
+import com.ezlevup.jober.entity.User;
+import com.ezlevup.jober.repository.UserRepository;
+import com.ezlevup.jober.util.JwtUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@TestPropertySource(
+    locations = "classpath:application-test.properties",
+    properties = "jwt.db-check-paths=/api/templates/**"
+)
+class JwtAuthenticationFilterTest {
+
+    @Autowired
+    private JwtAuthenticationFilter jwtAuthenticationFilter;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll();
+        SecurityContextHolder.clearContext();
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("DB 확인 경로는 사용자 조회 캐시가 아닌 DB 에서 사용자를 확인")
+    void dbCheckPath_bypassesUserCache() throws Exception {
+        // given: 캐시에 올라간 사용자를 캐시를 거치지 않고 DB 에서만 삭제
+        User user = new User();
+        user.setEmail("dbcheck@example.com");
+        user.setPassword("password");
+        user.setNickname("디비확인");
+        user = userRepository.save(user);
+        String token = jwtUtil.generateToken(user.getEmail(), user.getId());
+        assertThat(filter(token, "/api/templates/my").getAttribute("userId")).isEqualTo(user.getId());
+
+        jdbcTemplate.update("delete from users where id = ?", user.getId());
+        assertThat(userRepository.findByEmail(user.getEmail())).isPresent();
+
+        // when
+        MockHttpServletRequest dbCheckRequest = filter(token, "/api/templates/my");
+        MockHttpServletRequest claimsOnlyRequest = filter(token, "/api/logout");
+
+        // then
+        assertThat(dbCheckRequest.getAttribute("userId")).isNull();
+        assertThat(claimsOnlyRequest.getAttribute("userId")).isEqualTo(user.getId());
+    }
+
+    private MockHttpServletRequest filter(String token, String servletPath) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", servletPath);
+        request.setServletPath(servletPath);
+        request.addHeader("Authorization", "Bearer " + token);
+        jwtAuthenticationFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return request;
+    }
+}
@@ -0,0 +1,86 @@
+package com.ezlevup.jober.filter;
+
+import com.ezlevup.jober.config.RateLimitProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.io.support.ResourcePropertySource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // 배포 설정(application.properties)의 경로별 제한을 그대로 사용합니다.
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new ResourcePropertySource("classpath:application.properties"));
+        RateLimitProperties properties = new Binder(ConfigurationPropertySources.get(environment))
+            .bind("rate-limit", RateLimitProperties.class)
+            .get();
+        filter = new RateLimitFilter(properties, new ObjectMapper(), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("일괄 생성은 단건 생성과 별도의 낮은 한도로 제한")
+    void batchGeneration_hasItsOwnLowerLimit() throws Exception {
+        // when
+        MockHttpServletResponse first = send("POST", "/api/templates/generate/batch", 1L);
+        MockHttpServletResponse second = send("POST", "/api/templates/generate/batch", 1L);
+        MockHttpServletResponse single = send("POST", "/api/templates/generate", 1L);
+
+        // then
+        assertThat(first.getStatus()).isEqualTo(200);
+        assertThat(second.getStatus()).isEqualTo(429);
+        assertThat(Long.parseLong(second.getHeader(HttpHeaders.RETRY_AFTER))).isPositive();
+        assertThat(second.getContentAsString()).contains("\"success\":false");
+        assertThat(single.getStatus()).isEqualTo(200);
+        assertThat(meterRegistry.counter("rate.limit.rejected", "route", "/api/templates/generate/batch").count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("한도는 사용자마다 따로 계산")
+    void batchGeneration_isLimitedPerUser() throws Exception {
+        // when
+        send("POST", "/api/templates/generate/batch", 1L);
+        MockHttpServletResponse otherUser = send("POST", "/api/templates/generate/batch", 2L);
+
+        // then
+        assertThat(otherUser.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("단건 생성은 버킷 크기만큼 허용한 뒤 거절")
+    void singleGeneration_rejectsAfterBurst() throws Exception {
+        // when
+        for (int i = 0; i < 10; i++) {
+            assertThat(send("POST", "/api/templates/generate", 1L).getStatus()).isEqualTo(200);
+        }
+        MockHttpServletResponse rejected = send("GET", "/api/templates/generate/stream", 1L);
+
+        // then
+        assertThat(rejected.getStatus()).isEqualTo(429);
+    }
+
+    private MockHttpServletResponse send(String method, String path, Long userId) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setServletPath(path);
+        request.setAttribute("userId", userId);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
@@ -0,0 +1,88 @@
+package com.ezlevup.jober.repository;
+
+import com.ezlevup.jober.entity.Template;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class TemplateRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TemplateRepository templateRepository;
+
+    private final LocalDateTime baseTime = LocalDateTime.of(2024, 1, 1, 10, 0);
+
+    @BeforeEach
+    void setUp() {
+        templateRepository.deleteAll();
+    }
+
+    private Template persistTemplate(Long userId, LocalDateTime createdAt) {
+        Template template = new Template();
+        template.setUserId(userId);
+        template.setAiRes("{\"title\":\"[안내사항]\"}");
+        template.setCreatedAt(createdAt);
+        return entityManager.persistAndFlush(template);
+    }
+
+    @Test
+    @DisplayName("사용자 템플릿 첫 페이지 조회 - 최신순 정렬")
+    void findLatestByUserId_orderedByCreatedAtDesc() {
+        // given
+        Template oldest = persistTemplate(1L, baseTime);
+        Template middle = persistTemplate(1L, baseTime.plusMinutes(1));
+        Template newest = persistTemplate(1L, baseTime.plusMinutes(2));
+        persistTemplate(2L, baseTime.plusMinutes(3));
+
+        // when
+        List<Template> templates = templateRepository.findLatestByUserId(1L, Limit.of(10));
+
+        // then
+        assertThat(templates).extracting(Template::getId)
+            .containsExactly(newest.getId(), middle.getId(), oldest.getId());
+    }
+
+    @Test
+    @DisplayName("커서 이후 페이지 조회 - 생성 시각이 같으면 ID 로 구분")
+    void findLatestByUserIdBefore_tieBrokenById() {
+        // given
+        Template first = persistTemplate(1L, baseTime);
+        Template second = persistTemplate(1L, baseTime);
+        Template third = persistTemplate(1L, baseTime);
+        Template newest = persistTemplate(1L, baseTime.plusMinutes(1));
+
+        // when
+        List<Template> firstPage = templateRepository.findLatestByUserId(1L, Limit.of(2));
+        Template last = firstPage.get(firstPage.size() - 1);
+        List<Template> secondPage = templateRepository.findLatestByUserIdBefore(
+            1L, last.getCreatedAt(), last.getId(), Limit.of(2));
+
+        // then
+        assertThat(firstPage).extracting(Template::getId).containsExactly(newest.getId(), third.getId());
+        assertThat(secondPage).extracting(Template::getId).containsExactly(second.getId(), first.getId());
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 템플릿은 조회되지 않음")
+    void findByIdAndUserId_otherUser_empty() {
+        // given
+        Template template = persistTemplate(1L, baseTime);
+
+        // when & then
+        assertThat(templateRepository.findByIdAndUserId(template.getId(), 1L)).isPresent();
+        assertThat(templateRepository.findByIdAndUserId(template.getId(), 2L)).isEmpty();
+    }
+}
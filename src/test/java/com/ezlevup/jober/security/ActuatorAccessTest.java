@@ -0,0 +1,53 @@
+package com.ezlevup.jober.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(locations = "classpath:application-test.properties")
+class ActuatorAccessTest {
+
+    private static final RequestPostProcessor EXTERNAL_CLIENT = request -> {
+        request.setRemoteAddr("203.0.113.7");
+        return request;
+    };
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("헬스 체크는 어디서나 접근 가능")
+    void health_isPublic() throws Exception {
+        mockMvc.perform(get("/actuator/health").with(EXTERNAL_CLIENT))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("메트릭은 허용된 네트워크에서만 접근 가능")
+    void metrics_onlyFromAllowedNetworks() throws Exception {
+        // MockMvc 의 기본 클라이언트 주소는 127.0.0.1
+        mockMvc.perform(get("/actuator/metrics"))
+            .andExpect(status().isOk());
+        mockMvc.perform(get("/actuator/metrics").with(EXTERNAL_CLIENT))
+            .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("사용자·인증 캐시 통계는 허용된 네트워크에서만 접근 가능")
+    void authCache_onlyFromAllowedNetworks() throws Exception {
+        mockMvc.perform(get("/actuator/authcache"))
+            .andExpect(status().isOk());
+        mockMvc.perform(get("/actuator/authcache").with(EXTERNAL_CLIENT))
+            .andExpect(status().isForbidden());
+    }
+}
@@ -0,0 +1,131 @@
+package com.ezlevup.jober.security;
+
+import com.ezlevup.jober.util.JwtUtil;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.util.Base64;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtKeyRingTest {
+
+    private static final String SECRET = "testSecretKeyForJWTTokenGenerationThatShouldBeAtLeast32Characters";
+
+    @TempDir
+    Path keystore;
+
+    private JwtUtil createJwtUtil(JwtKeyRing keyRing) {
+        JwtUtil util = new JwtUtil(keyRing);
+        ReflectionTestUtils.setField(util, "expiration", 60_000L);
+        ReflectionTestUtils.invokeMethod(util, "init");
+        return util;
+    }
+
+    private void writeKeyPair(String kid, KeyPair keyPair) throws IOException {
+        Files.writeString(keystore.resolve(kid + ".private.pem"), pem("PRIVATE KEY", keyPair.getPrivate().getEncoded()));
+        Files.writeString(keystore.resolve(kid + ".public.pem"), pem("PUBLIC KEY", keyPair.getPublic().getEncoded()));
+    }
+
+    private void activate(String kid) throws IOException {
+        Path file = keystore.resolve("active-kid");
+        Files.writeString(file, kid);
+        // 같은 밀리초 안에 다시 쓰더라도 변경으로 인식되도록 수정 시각을 앞당깁니다.
+        Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() + 1_000));
+    }
+
+    private String pem(String type, byte[] der) {
+        return "-----BEGIN " + type + "-----\n"
+            + Base64.getMimeEncoder(64, "\n".getBytes()).encodeToString(der)
+            + "\n-----END " + type + "-----\n";
+    }
+
+    @Test
+    @DisplayName("Ed25519 활성 키로 서명하고 kid 헤더로 검증")
+    void activeEd25519Key_signsWithKid() throws Exception {
+        // given
+        writeKeyPair("ed-2024", KeyPairGenerator.getInstance("Ed25519").generateKeyPair());
+        activate("ed-2024");
+        JwtKeyRing keyRing = new JwtKeyRing(SECRET, keystore.toString(), true);
+        JwtUtil jwtUtil = createJwtUtil(keyRing);
+
+        // when
+        String token = jwtUtil.generateToken("test@example.com", 1L);
+
+        // then
+        String kid = Jwts.parser().keyLocator(keyRing).build().parseSignedClaims(token).getHeader().getKeyId();
+        assertThat(kid).isEqualTo("ed-2024");
+        assertThat(jwtUtil.parseClaims(token)).isPresent();
+        assertThat(keyRing.publicJwks()).extracting(jwk -> jwk.get("kid")).containsExactly("ed-2024");
+    }
+
+    @Test
+    @DisplayName("RSA 키는 키 길이와 관계없이 RS256 으로 서명하고 JWK 에 alg 를 게시")
+    void activeRsaKey_signsWithRs256() throws Exception {
+        // given
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(3072);
+        writeKeyPair("rsa-3072", generator.generateKeyPair());
+        activate("rsa-3072");
+        JwtKeyRing keyRing = new JwtKeyRing(SECRET, keystore.toString(), true);
+        JwtUtil jwtUtil = createJwtUtil(keyRing);
+
+        // when
+        String token = jwtUtil.generateToken("test@example.com", 1L);
+
+        // then
+        String alg = Jwts.parser().keyLocator(keyRing).build().parseSignedClaims(token).getHeader().getAlgorithm();
+        assertThat(alg).isEqualTo("RS256");
+        assertThat(keyRing.publicJwks()).singleElement()
+            .satisfies(jwk -> assertThat(jwk).containsEntry("kty", "RSA").containsEntry("alg", "RS256"));
+    }
+
+    @Test
+    @DisplayName("활성 키를 교체해도 이전 키로 서명한 토큰은 계속 검증")
+    void rotateActiveKey_oldTokensStillValid() throws Exception {
+        // given
+        writeKeyPair("rsa-1", KeyPairGenerator.getInstance("RSA").generateKeyPair());
+        activate("rsa-1");
+        JwtKeyRing keyRing = new JwtKeyRing(SECRET, keystore.toString(), true);
+        JwtUtil jwtUtil = createJwtUtil(keyRing);
+        String oldToken = jwtUtil.generateToken("test@example.com", 1L);
+
+        // when
+        writeKeyPair("ed-2", KeyPairGenerator.getInstance("Ed25519").generateKeyPair());
+        activate("ed-2");
+        keyRing.reload();
+        String newToken = jwtUtil.generateToken("test@example.com", 1L);
+
+        // then
+        assertThat(keyRing.activeKey().kid()).isEqualTo("ed-2");
+        assertThat(jwtUtil.parseClaims(oldToken)).isPresent();
+        assertThat(jwtUtil.parseClaims(newToken)).isPresent();
+    }
+
+    @Test
+    @DisplayName("키 저장소에 없는 kid 로 서명된 토큰은 검증 실패")
+    void unknownKid_rejected() throws Exception {
+        // given
+        JwtUtil jwtUtil = createJwtUtil(new JwtKeyRing(SECRET, "", true));
+        KeyPair foreign = KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+        String token = Jwts.builder()
+            .header().keyId("unknown").and()
+            .subject("test@example.com")
+            .claims(Map.of("userId", 1L))
+            .signWith(foreign.getPrivate())
+            .compact();
+
+        // when & then
+        assertThat(jwtUtil.parseClaims(token)).isEmpty();
+    }
+}
@@ -0,0 +1,68 @@
+package com.ezlevup.jober.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PasswordHashingServiceTest {
+
+    private final PasswordHashingService service =
+        new PasswordHashingService(4, Duration.ofMillis(250), 10, 14, 2, 8, Duration.ofSeconds(5), Duration.ofSeconds(1),
+            new SimpleMeterRegistry());
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    @DisplayName("전용 스레드 풀에서 해시하고 같은 비밀번호만 일치")
+    void encodeAndMatches() {
+        // when
+        String encoded = service.encode("password123");
+
+        // then
+        assertThat(encoded).startsWith("$2a$04$");
+        assertThat(service.matches("password123", encoded)).isTrue();
+        assertThat(service.matches("wrong-password", encoded)).isFalse();
+    }
+
+    @Test
+    @DisplayName("저장된 해시의 비용이 설정보다 낮을 때만 다시 해시 대상")
+    void upgradeEncoding_onlyWhenCostIsLower() {
+        // given
+        String sameCost = service.encode("password123");
+        String higherCost = new BCryptPasswordEncoder(5).encode("password123");
+        PasswordHashingService stronger =
+            new PasswordHashingService(5, Duration.ofMillis(250), 10, 14, 1, 8, Duration.ofSeconds(5), Duration.ofSeconds(1),
+                new SimpleMeterRegistry());
+
+        try {
+            // then
+            assertThat(service.upgradeEncoding(sameCost)).isFalse();
+            assertThat(service.upgradeEncoding(higherCost)).isFalse();
+            assertThat(stronger.upgradeEncoding(sameCost)).isTrue();
+            assertThat(service.upgradeEncoding("not-a-bcrypt-hash")).isTrue();
+        } finally {
+            stronger.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("비용 측정 결과는 최소·최대 범위 안")
+    void calibrate_staysWithinBounds() {
+        // when
+        int cost = PasswordHashingService.calibrate(Duration.ofNanos(1), 4, 6);
+        int capped = PasswordHashingService.calibrate(Duration.ofHours(1), 4, 6);
+
+        // then
+        assertThat(cost).isEqualTo(4);
+        assertThat(capped).isEqualTo(6);
+    }
+}
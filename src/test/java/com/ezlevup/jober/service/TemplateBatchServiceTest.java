@@ -0,0 +1,190 @@
+package com.ezlevup.jober.service;
+
+import com.ezlevup.jober.dto.TemplateBatchItem;
+import com.ezlevup.jober.dto.TemplateBatchItem.Status;
+import com.ezlevup.jober.dto.TemplateGenerateRequest;
+import com.ezlevup.jober.support.AiBackendSimulator;
+import com.ezlevup.jober.support.AiBackendSimulator.Behavior;
+import com.ezlevup.jober.support.AiBackendSimulator.LatencyDistribution;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@TestPropertySource(
+    locations = "classpath:application-test.properties",
+    properties = {
+        "template.batch.parallelism=2",
+        "template.batch.item-timeout=PT1S",
+        "template.batch.deadline=PT2.5S"
+    }
+)
+class TemplateBatchServiceTest {
+
+    private static final AiBackendSimulator simulator = startSimulator();
+
+    @Autowired
+    private TemplateBatchService templateBatchService;
+
+    @Autowired
+    private FallbackTemplateEngine fallbackTemplateEngine;
+
+    @Autowired
+    private CircuitBreaker aiCircuitBreaker;
+
+    @Autowired
+    private Bulkhead aiBulkhead;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void aiBackend(DynamicPropertyRegistry registry) {
+        registry.add("ai.client.url", simulator::url);
+        registry.add("ai.client.stream-url", simulator::streamUrl);
+        registry.add("ai.client.read-timeout", () -> "PT10S");
+        registry.add("ai.client.total-timeout", () -> "PT10S");
+    }
+
+    @BeforeEach
+    void setUp() {
+        simulator.behavior(Behavior.healthy());
+        // 이전 테스트의 시간 초과가 서킷을 열어 폴백으로 바뀌지 않도록 합니다.
+        aiCircuitBreaker.reset();
+    }
+
+    @AfterAll
+    static void tearDown() {
+        simulator.close();
+    }
+
+    @Test
+    @DisplayName("모든 항목을 요청 순서대로 생성")
+    void submit_completesAllItems() {
+        // given
+        List<TemplateGenerateRequest> requests = requests("일괄 정상 안내", 3);
+
+        // when
+        List<TemplateBatchItem> items = templateBatchService.submit(requests, null).all().join();
+
+        // then
+        assertThat(items).extracting(TemplateBatchItem::getIndex).containsExactly(0, 1, 2);
+        assertThat(items).allSatisfy(item -> {
+            assertThat(item.getStatus()).isEqualTo(Status.COMPLETED);
+            assertThat(item.getTemplate().getAiRes()).isEqualTo(AiBackendSimulator.TEMPLATE_JSON);
+            assertThat(item.getError()).isNull();
+        });
+    }
+
+    @Test
+    @DisplayName("AI 서버가 응답하지 않으면 항목 제한 시간에 폴백으로 대체하고, 배치 마감 이후 항목은 마감 시간 초과로 표시")
+    void submit_appliesItemTimeoutAndBatchDeadline() {
+        // given: 동시 2건, 항목 1초, 배치 2.5초이므로 먼저 시작한 4건은 항목 시간 초과, 나머지 2건은 배치 마감
+        simulator.behavior(Behavior.healthy().withFaults(0, 1, 0));
+        List<TemplateGenerateRequest> requests = requests("일괄 무응답 안내", 6);
+
+        // when
+        long start = System.nanoTime();
+        List<TemplateBatchItem> items = templateBatchService.submit(requests, null).all().join();
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        // then
+        assertThat(items).allSatisfy(item -> {
+            assertThat(item.getStatus()).isEqualTo(Status.TIMEOUT);
+            assertThat(item.getTemplate().getAiRes())
+                .isEqualTo(fallbackTemplateEngine.select(requests.get(item.getIndex()).getPrompt()).json());
+        });
+        assertThat(items.stream().collect(Collectors.groupingBy(TemplateBatchItem::getError, Collectors.counting())))
+            .containsExactlyInAnyOrderEntriesOf(Map.of(
+                "생성 시간이 초과되어 기본 템플릿을 제공합니다.", 4L,
+                "일괄 생성 시간이 초과되어 기본 템플릿을 제공합니다.", 2L));
+        assertThat(elapsed).isLessThan(Duration.ofSeconds(4));
+    }
+
+    @Test
+    @DisplayName("생성 중 오류가 난 항목은 완료가 아닌 실패로 표시")
+    void submit_reportsFailedItem() {
+        // given: 템플릿 저장이 실패하는 사용자
+        long userId = 987_654L;
+        jdbcTemplate.execute("alter table templates add constraint ck_batch_test check (user_id <> " + userId + ")");
+        TemplateGenerateRequest request = requests("일괄 저장 실패 안내", 1).get(0);
+
+        // when
+        TemplateBatchItem item;
+        try {
+            item = templateBatchService.submit(List.of(request), userId).all().join().get(0);
+        } finally {
+            jdbcTemplate.execute("alter table templates drop constraint ck_batch_test");
+        }
+
+        // then
+        assertThat(item.getStatus()).isEqualTo(Status.FAILED);
+        assertThat(item.getError()).isEqualTo("생성 중 오류가 발생하여 기본 템플릿을 제공합니다.");
+        assertThat(item.getTemplate().getAiRes()).isEqualTo(fallbackTemplateEngine.select(request.getPrompt()).json());
+    }
+
+    @Test
+    @DisplayName("배치를 취소하면 진행 중인 AI 호출을 중단")
+    void cancel_interruptsRunningItems() throws InterruptedException {
+        // given
+        simulator.behavior(Behavior.healthy().withLatency(LatencyDistribution.fixed(Duration.ofSeconds(5))));
+        long before = simulator.requestCount();
+        TemplateBatchService.Batch batch = templateBatchService.submit(requests("일괄 취소 안내", 2), null);
+        awaitUntil(() -> simulator.requestCount() - before == 2, Duration.ofSeconds(2));
+
+        // when
+        batch.cancel();
+
+        // then
+        assertThat(batch.items()).allSatisfy(item -> assertThat(item.isCancelled()).isTrue());
+        awaitUntil(() -> aiBulkhead.getMetrics().getAvailableConcurrentCalls()
+            == aiBulkhead.getBulkheadConfig().getMaxConcurrentCalls(), Duration.ofSeconds(2));
+    }
+
+    private static List<TemplateGenerateRequest> requests(String prompt, int count) {
+        return IntStream.range(0, count).mapToObj(i -> {
+            TemplateGenerateRequest request = new TemplateGenerateRequest();
+            request.setPrompt(prompt + " " + i);
+            return request;
+        }).toList();
+    }
+
+    private static void awaitUntil(BooleanSupplier condition, Duration timeout)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("Condition not met within " + timeout);
+            }
+            Thread.sleep(20);
+        }
+    }
+
+    private static AiBackendSimulator startSimulator() {
+        try {
+            return AiBackendSimulator.start(0, Behavior.healthy());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
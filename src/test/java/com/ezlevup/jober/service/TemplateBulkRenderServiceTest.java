@@ -0,0 +1,105 @@
+package com.ezlevup.jober.service;
+
+import com.ezlevup.jober.util.CompiledTemplate;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TemplateBulkRenderServiceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final TemplateBulkRenderService service = new TemplateBulkRenderService(objectMapper, 10, 3);
+    private final TemplateRenderer.CompiledMessage message = new TemplateRenderer.CompiledMessage(
+        CompiledTemplate.compile("[#{고객명}]"),
+        CompiledTemplate.compile("#{고객명}님, #{연락처}")
+    );
+
+    @Test
+    @DisplayName("정상·변수 누락·잘못된 행을 한 줄씩 표시하고 마지막에 요약")
+    void render_reportsEachRowAndSummary() throws IOException {
+        // given
+        String csv = "#{고객명},연락처\n"
+            + "홍길동,010-1\n"
+            + "김철수,\n"
+            + "a,b,c\n"
+            + "\"0123456789abc\",x\n"
+            + "1,2,3,4\n"
+            + "이영희,010-2\n";
+
+        // when
+        List<JsonNode> lines = render(csv);
+
+        // then
+        assertThat(lines).hasSize(7);
+        assertLine(lines.get(0), 1, "RENDERED");
+        assertThat(lines.get(0).get("title").asText()).isEqualTo("[홍길동]");
+        assertThat(lines.get(0).get("content").asText()).isEqualTo("홍길동님, 010-1");
+
+        assertLine(lines.get(1), 2, "MISSING_VARIABLES");
+        assertThat(lines.get(1).get("content").asText()).isEqualTo("김철수님, #{연락처}");
+        assertThat(lines.get(1).get("missingVariables")).extracting(JsonNode::asText).containsExactly("연락처");
+
+        assertLine(lines.get(2), 3, "INVALID");
+        assertThat(lines.get(2).get("error").asText()).startsWith("열 개수가 헤더와 다릅니다.");
+        assertLine(lines.get(3), 4, "INVALID");
+        assertThat(lines.get(3).get("error").asText()).contains("10 characters");
+        assertLine(lines.get(4), 5, "INVALID");
+        assertThat(lines.get(4).get("error").asText()).contains("3 fields");
+
+        assertLine(lines.get(5), 6, "RENDERED");
+        assertThat(lines.get(5).get("title").asText()).isEqualTo("[이영희]");
+
+        assertSummary(lines.get(6), 6, 2, 1, 3);
+    }
+
+    @Test
+    @DisplayName("닫히지 않은 따옴표는 해당 행을 표시하고 처리를 멈춤")
+    void render_stopsAtUnterminatedQuote() throws IOException {
+        // given
+        String csv = "고객명,연락처\n홍길동,010-1\n\"깨진,010-2\n이영희,010-3\n";
+
+        // when
+        List<JsonNode> lines = render(csv);
+
+        // then
+        assertThat(lines).hasSize(3);
+        assertLine(lines.get(0), 1, "RENDERED");
+        assertLine(lines.get(1), 2, "INVALID");
+        assertThat(lines.get(1).get("error").asText()).startsWith("CSV 형식이 올바르지 않습니다:");
+        assertSummary(lines.get(2), 1, 1, 0, 1);
+    }
+
+    private List<JsonNode> render(String csv) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        service.render(message, new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), out);
+
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+            lines.add(objectMapper.readTree(line));
+        }
+        return lines;
+    }
+
+    private static void assertLine(JsonNode line, long row, String status) {
+        assertThat(line.get("row").asLong()).isEqualTo(row);
+        assertThat(line.get("status").asText()).isEqualTo(status);
+    }
+
+    private static void assertSummary(JsonNode line, long rows, long rendered, long missing, long invalid) {
+        JsonNode summary = line.get("summary");
+        assertThat(summary.get("rows").asLong()).isEqualTo(rows);
+        assertThat(summary.get("rendered").asLong()).isEqualTo(rendered);
+        assertThat(summary.get("missingVariables").asLong()).isEqualTo(missing);
+        assertThat(summary.get("invalid").asLong()).isEqualTo(invalid);
+    }
+}
@@ -0,0 +1,162 @@
+package com.ezlevup.jober.service;
+
+import com.ezlevup.jober.dto.TemplateGenerateRequest;
+import com.ezlevup.jober.dto.TemplateJobResponse;
+import com.ezlevup.jober.dto.TemplateJobResponse.Status;
+import com.ezlevup.jober.support.AiBackendSimulator;
+import com.ezlevup.jober.support.AiBackendSimulator.Behavior;
+import com.ezlevup.jober.support.AiBackendSimulator.LatencyDistribution;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@TestPropertySource(
+    locations = "classpath:application-test.properties",
+    properties = {
+        "template.job.max-pending=2",
+        "template.job.retention=PT1S"
+    }
+)
+class TemplateJobServiceTest {
+
+    private static final AiBackendSimulator simulator = startSimulator();
+
+    @Autowired
+    private TemplateJobService templateJobService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void aiBackend(DynamicPropertyRegistry registry) {
+        registry.add("ai.client.url", simulator::url);
+        registry.add("ai.client.stream-url", simulator::streamUrl);
+        registry.add("ai.client.read-timeout", () -> "PT5S");
+        registry.add("ai.client.total-timeout", () -> "PT5S");
+    }
+
+    @BeforeEach
+    void setUp() {
+        simulator.behavior(Behavior.healthy());
+    }
+
+    @AfterAll
+    static void tearDown() {
+        simulator.close();
+    }
+
+    @Test
+    @DisplayName("등록한 작업은 대기 상태로 반환되고 완료되면 결과를 조회")
+    void submit_completesJob() throws InterruptedException {
+        // given
+        simulator.behavior(Behavior.healthy().withLatency(LatencyDistribution.fixed(Duration.ofMillis(300))));
+
+        // when
+        TemplateJobResponse submitted = templateJobService.submit(request("작업 정상 안내"), 1L);
+        TemplateJobResponse finished = awaitFinished(submitted.getJobId(), 1L);
+
+        // then
+        assertThat(submitted.getStatus()).isIn(Status.PENDING, Status.RUNNING);
+        assertThat(finished.getStatus()).isEqualTo(Status.COMPLETED);
+        assertThat(finished.getResult().getAiRes()).isEqualTo(AiBackendSimulator.TEMPLATE_JSON);
+        assertThat(finished.getCompletedAt()).isNotNull();
+        assertThat(templateJobService.getJob(submitted.getJobId(), 2L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("생성 중 오류가 나면 실패 상태와 오류 메시지를 조회")
+    void submit_reportsFailedJob() throws InterruptedException {
+        // given: 템플릿 저장이 실패하는 사용자
+        long userId = 987_654L;
+        jdbcTemplate.execute("alter table templates add constraint ck_job_test check (user_id <> " + userId + ")");
+
+        // when
+        TemplateJobResponse finished;
+        try {
+            TemplateJobResponse submitted = templateJobService.submit(request("작업 저장 실패 안내"), userId);
+            finished = awaitFinished(submitted.getJobId(), userId);
+        } finally {
+            jdbcTemplate.execute("alter table templates drop constraint ck_job_test");
+        }
+
+        // then
+        assertThat(finished.getStatus()).isEqualTo(Status.FAILED);
+        assertThat(finished.getError()).isEqualTo("템플릿 생성 중 오류가 발생했습니다.");
+        assertThat(finished.getResult()).isNull();
+    }
+
+    @Test
+    @DisplayName("미완료 작업이 max-pending 에 도달하면 새 작업을 거절")
+    void submit_rejectsWhenTooManyPending() throws InterruptedException {
+        // given
+        simulator.behavior(Behavior.healthy().withLatency(LatencyDistribution.fixed(Duration.ofSeconds(1))));
+        TemplateJobResponse first = templateJobService.submit(request("작업 대기 안내 1"), 1L);
+        TemplateJobResponse second = templateJobService.submit(request("작업 대기 안내 2"), 1L);
+
+        // when & then
+        assertThatThrownBy(() -> templateJobService.submit(request("작업 대기 안내 3"), 1L))
+            .isInstanceOf(RejectedExecutionException.class);
+
+        awaitFinished(first.getJobId(), 1L);
+        awaitFinished(second.getJobId(), 1L);
+    }
+
+    @Test
+    @DisplayName("완료된 작업은 보관 기간이 지나면 조회되지 않음")
+    void getJob_expiresAfterRetention() throws InterruptedException {
+        // given
+        TemplateJobResponse submitted = templateJobService.submit(request("작업 보관 안내"), 1L);
+        awaitFinished(submitted.getJobId(), 1L);
+
+        // when
+        Thread.sleep(1500);
+
+        // then
+        assertThat(templateJobService.getJob(submitted.getJobId(), 1L)).isEmpty();
+    }
+
+    private TemplateJobResponse awaitFinished(String jobId, Long userId) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (System.nanoTime() < deadline) {
+            Optional<TemplateJobResponse> job = templateJobService.getJob(jobId, userId);
+            assertThat(job).isPresent();
+            if (EnumSet.of(Status.COMPLETED, Status.FAILED).contains(job.get().getStatus())) {
+                return job.get();
+            }
+            Thread.sleep(20);
+        }
+        throw new AssertionError("Job " + jobId + " did not finish");
+    }
+
+    private static TemplateGenerateRequest request(String prompt) {
+        TemplateGenerateRequest request = new TemplateGenerateRequest();
+        request.setPrompt(prompt);
+        return request;
+    }
+
+    private static AiBackendSimulator startSimulator() {
+        try {
+            return AiBackendSimulator.start(0, Behavior.healthy());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.ezlevup.jober.service;
+
+import com.ezlevup.jober.dto.TemplateGenerateRequest;
+import com.ezlevup.jober.entity.Template;
+import com.ezlevup.jober.support.AiBackendSimulator;
+import com.ezlevup.jober.support.AiBackendSimulator.Behavior;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application-test.properties")
+class TemplateServiceAiBackendTest {
+
+    private static final AiBackendSimulator simulator = startSimulator();
+
+    @Autowired
+    private TemplateService templateService;
+
+    @Autowired
+    private FallbackTemplateEngine fallbackTemplateEngine;
+
+    @DynamicPropertySource
+    static void aiBackend(DynamicPropertyRegistry registry) {
+        registry.add("ai.client.url", simulator::url);
+        registry.add("ai.client.stream-url", simulator::streamUrl);
+        registry.add("ai.client.read-timeout", () -> "PT1S");
+        registry.add("ai.client.total-timeout", () -> "PT2S");
+    }
+
+    @BeforeEach
+    void setUp() {
+        simulator.behavior(Behavior.healthy());
+    }
+
+    @AfterAll
+    static void tearDown() {
+        simulator.close();
+    }
+
+    @Test
+    @DisplayName("정상 응답은 그대로 사용하고 같은 요청은 캐시에서 응답")
+    void generateTemplate_cachesSuccessfulResponse() {
+        // given
+        TemplateGenerateRequest request = request("신규 회원 가입 환영 안내");
+        long before = simulator.requestCount();
+
+        // when
+        Template first = templateService.generateTemplate(request, null);
+        Template second = templateService.generateTemplate(request, null);
+
+        // then
+        assertThat(first.getAiRes()).isEqualTo(AiBackendSimulator.TEMPLATE_JSON);
+        assertThat(second.getAiRes()).isEqualTo(AiBackendSimulator.TEMPLATE_JSON);
+        assertThat(simulator.requestCount() - before).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("잘린 JSON 응답은 대체 템플릿을 사용하고 캐시하지 않음")
+    void generateTemplate_fallsBackOnTruncatedJson() {
+        // given
+        simulator.behavior(Behavior.healthy().withFaults(0, 0, 1));
+        TemplateGenerateRequest request = request("학부모님께 과제 안내");
+        long before = simulator.requestCount();
+
+        // when
+        Template first = templateService.generateTemplate(request, null);
+        Template second = templateService.generateTemplate(request, null);
+
+        // then
+        String fallbackJson = fallbackTemplateEngine.select(request.getPrompt()).json();
+        assertThat(first.getAiRes()).isEqualTo(fallbackJson);
+        assertThat(second.getAiRes()).isEqualTo(fallbackJson);
+        assertThat(simulator.requestCount() - before).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("AI 서버가 응답하지 않으면 마감 시간 안에 대체 템플릿으로 응답")
+    void generateTemplate_fallsBackOnTimeout() {
+        // given
+        simulator.behavior(Behavior.healthy().withFaults(0, 1, 0));
+        TemplateGenerateRequest request = request("매장 휴무일 안내");
+
+        // when
+        long start = System.nanoTime();
+        Template template = templateService.generateTemplate(request, null);
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        // then
+        assertThat(template.getAiRes()).isEqualTo(fallbackTemplateEngine.select(request.getPrompt()).json());
+        assertThat(elapsed).isLessThan(Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("AI 서버 오류 응답은 대체 템플릿을 사용")
+    void generateTemplate_fallsBackOnServerError() {
+        // given
+        simulator.behavior(Behavior.healthy().withFaults(1, 0, 0));
+        TemplateGenerateRequest request = request("배송 지연 안내");
+
+        // when
+        Template template = templateService.generateTemplate(request, null);
+
+        // then
+        assertThat(template.getAiRes()).isEqualTo(fallbackTemplateEngine.select(request.getPrompt()).json());
+    }
+
+    private static TemplateGenerateRequest request(String prompt) {
+        TemplateGenerateRequest request = new TemplateGenerateRequest();
+        request.setPrompt(prompt);
+        return request;
+    }
+
+    private static AiBackendSimulator startSimulator() {
+        try {
+            return AiBackendSimulator.start(0, Behavior.healthy());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
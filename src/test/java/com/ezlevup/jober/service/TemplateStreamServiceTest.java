@@ -0,0 +1,152 @@
+package com.ezlevup.jober.service;
+
+import com.ezlevup.jober.dto.TemplateGenerateRequest;
+import com.ezlevup.jober.support.AiBackendSimulator;
+import com.ezlevup.jober.support.AiBackendSimulator.Behavior;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application-test.properties")
+class TemplateStreamServiceTest {
+
+    private static final AiBackendSimulator simulator = startSimulator();
+
+    @Autowired
+    private TemplateStreamService templateStreamService;
+
+    @Autowired
+    private TemplateService templateService;
+
+    @Autowired
+    private TemplateResponseCache templateResponseCache;
+
+    @Autowired
+    private Bulkhead aiBulkhead;
+
+    @DynamicPropertySource
+    static void aiBackend(DynamicPropertyRegistry registry) {
+        registry.add("ai.client.url", simulator::url);
+        registry.add("ai.client.stream-url", simulator::streamUrl);
+        registry.add("ai.client.read-timeout", () -> "PT10S");
+        registry.add("ai.client.total-timeout", () -> "PT2S");
+    }
+
+    @BeforeEach
+    void setUp() {
+        simulator.behavior(Behavior.healthy().withStreaming(64, Duration.ofMillis(5)));
+    }
+
+    @AfterAll
+    static void tearDown() {
+        simulator.close();
+    }
+
+    @Test
+    @DisplayName("끝까지 받은 스트림은 캐시되어 일반 생성 요청과 같은 결과를 반환")
+    void stream_cachesCompletedResponse() {
+        // given
+        TemplateGenerateRequest request = request("스트리밍 신규 회원 환영 안내");
+        TemplateRequestKey key = TemplateRequestKey.from(request);
+
+        // when
+        templateStreamService.stream(request, null);
+        awaitUntil(() -> templateResponseCache.getIfPresent(key) != null, Duration.ofSeconds(5));
+        long before = simulator.requestCount();
+
+        // then
+        assertThat(templateResponseCache.getIfPresent(key)).isEqualTo(AiBackendSimulator.TEMPLATE_JSON);
+        assertThat(templateService.generateTemplate(request, null).getAiRes()).isEqualTo(AiBackendSimulator.TEMPLATE_JSON);
+        assertThat(simulator.requestCount()).isEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("클라이언트가 떠나면 남은 본문을 읽지 않고 업스트림 연결을 끊음")
+    void stream_cancelsUpstreamOnClientDisconnect() throws InterruptedException {
+        // given: 끝까지 보내려면 수 초가 걸리는 느린 스트림
+        simulator.behavior(Behavior.healthy().withStreaming(8, Duration.ofMillis(100)));
+        TemplateGenerateRequest request = request("스트리밍 중 연결 종료 안내");
+        long before = simulator.requestCount();
+
+        SseEmitter emitter = templateStreamService.stream(request, null);
+        awaitUntil(() -> simulator.requestCount() > before, Duration.ofSeconds(2));
+        Thread.sleep(300);
+
+        // when: 클라이언트 연결 종료로 이후 전송이 실패함
+        long disconnectedAt = System.nanoTime();
+        emitter.complete();
+        awaitUntil(this::bulkheadIsIdle, Duration.ofSeconds(3));
+
+        // then
+        assertThat(Duration.ofNanos(System.nanoTime() - disconnectedAt)).isLessThan(Duration.ofSeconds(2));
+        assertThat(templateResponseCache.getIfPresent(TemplateRequestKey.from(request))).isNull();
+    }
+
+    @Test
+    @DisplayName("AI 서버가 응답하지 않으면 마감 시간에 업스트림 요청을 취소")
+    void stream_cancelsUpstreamAtDeadline() {
+        // given
+        simulator.behavior(Behavior.healthy().withFaults(0, 1, 0));
+        TemplateGenerateRequest request = request("응답 없는 스트리밍 안내");
+        long before = simulator.requestCount();
+
+        // when
+        templateStreamService.stream(request, null);
+        awaitUntil(() -> simulator.requestCount() > before, Duration.ofSeconds(2));
+        long start = System.nanoTime();
+        awaitUntil(this::bulkheadIsIdle, Duration.ofSeconds(5));
+
+        // then
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(4));
+        assertThat(templateResponseCache.getIfPresent(TemplateRequestKey.from(request))).isNull();
+    }
+
+    private boolean bulkheadIsIdle() {
+        return aiBulkhead.getMetrics().getAvailableConcurrentCalls() == aiBulkhead.getBulkheadConfig().getMaxConcurrentCalls();
+    }
+
+    private static void awaitUntil(BooleanSupplier condition, Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("Condition not met within " + timeout);
+            }
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AssertionError("Interrupted while waiting", e);
+            }
+        }
+    }
+
+    private static TemplateGenerateRequest request(String prompt) {
+        TemplateGenerateRequest request = new TemplateGenerateRequest();
+        request.setPrompt(prompt);
+        return request;
+    }
+
+    private static AiBackendSimulator startSimulator() {
+        try {
+            return AiBackendSimulator.start(0, Behavior.healthy());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
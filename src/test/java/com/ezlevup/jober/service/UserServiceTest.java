@@ -1,5 +1,6 @@
 package com.ezlevup.jober.service;
 
+import com.ezlevup.jober.config.CacheConfig;
 import com.ezlevup.jober.dto.SignupRequest;
 import com.ezlevup.jober.entity.User;
 import com.ezlevup.jober.repository.UserRepository;
@@ -8,11 +9,15 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.junit.jupiter.api.AfterEach;
 
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @SpringBootTest
 @org.springframework.test.context.TestPropertySource(locations = "classpath:application-test.properties")
@@ -24,6 +29,12 @@ class UserServiceTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @BeforeEach
     void setUp() {
         userRepository.deleteAll();
@@ -177,4 +188,88 @@ class UserServiceTest {
         assertThat(createdUser.getPassword()).startsWith("$2");
         assertThat(createdUser.getPassword().length()).isGreaterThan(50);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("회원가입 시 사용자 조회 캐시 갱신, 삭제 시 제거")
+    void createUser_refreshesUserCache() {
+        SignupRequest request = new SignupRequest();
+        request.setEmail("cache@example.com");
+        request.setPassword("password123");
+        request.setNickname("캐시테스터");
+
+        User createdUser = userService.createUser(request);
+
+        Cache usersByEmail = cacheManager.getCache(CacheConfig.USERS_BY_EMAIL);
+        Cache usersById = cacheManager.getCache(CacheConfig.USERS_BY_ID);
+        assertThat(usersByEmail.get("cache@example.com", User.class).getId()).isEqualTo(createdUser.getId());
+        assertThat(usersById.get(createdUser.getId(), User.class).getEmail()).isEqualTo("cache@example.com");
+
+        userRepository.deleteAll();
+
+        assertThat(usersByEmail.get("cache@example.com")).isNull();
+        assertThat(usersById.get(createdUser.getId())).isNull();
+    }
+
+    @Test
+    @DisplayName("JPA 를 거치지 않고 추가된 사용자도 중복으로 검증")
+    void validateSignupRequest_userInsertedOutsideJpa_fail() {
+        // given - 다른 인스턴스가 가입시킨 것처럼 블룸 필터에 등록되지 않은 행
+        jdbcTemplate.update("INSERT INTO users (email, password, nickname, created_at, updated_at) "
+            + "VALUES (?, ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", "other-node@example.com", "encodedPassword", "다른노드");
+
+        SignupRequest request = new SignupRequest();
+        request.setEmail("other-node@example.com");
+        request.setPassword("password123");
+        request.setNickname("다른노드");
+
+        // when
+        Map<String, String> errors = userService.validateSignupRequest(request);
+
+        // then
+        assertThat(errors).containsEntry("email", "이미 사용 중인 이메일입니다.")
+            .containsEntry("nickname", "이미 사용 중인 닉네임입니다.");
+    }
+
+    @Test
+    @DisplayName("저장 시 유니크 제약에 걸리면 검증과 같은 필드 오류로 변환")
+    void createUser_duplicateNickname_mapsToFieldError() {
+        // given
+        User existingUser = new User();
+        existingUser.setEmail("first@example.com");
+        existingUser.setPassword("encodedPassword");
+        existingUser.setNickname("동시가입");
+        userRepository.save(existingUser);
+
+        SignupRequest request = new SignupRequest();
+        request.setEmail("second@example.com");
+        request.setPassword("password123");
+        request.setNickname("동시가입");
+
+        // when & then
+        assertThatThrownBy(() -> userService.createUser(request))
+            .isInstanceOf(UserService.DuplicateUserException.class)
+            .satisfies(e -> assertThat(((UserService.DuplicateUserException) e).getErrors())
+                .containsOnlyKeys("nickname")
+                .containsEntry("nickname", "이미 사용 중인 닉네임입니다."));
+    }
+
+    @Test
+    @DisplayName("캐시에서 꺼낸 사용자를 수정해도 캐시된 값은 그대로")
+    void cachedUser_isIsolatedFromCallerMutation() {
+        // given
+        User user = new User();
+        user.setEmail("isolated@example.com");
+        user.setPassword("encodedPassword");
+        user.setNickname("격리테스터");
+        userRepository.save(user);
+
+        // when
+        User cached = userRepository.findByEmail("isolated@example.com").orElseThrow();
+        cached.setPassword("mutated-without-save");
+
+        // then
+        User again = userRepository.findByEmail("isolated@example.com").orElseThrow();
+        assertThat(again).isNotSameAs(cached);
+        assertThat(again.getPassword()).isEqualTo("encodedPassword");
+    }
+}
@@ -0,0 +1,253 @@
+package com.ezlevup.jober.support;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로컬 AI 서버({@code /generate-template}, {@code /generate-template/stream})를 대신하는 프로세스 내 HTTP 서버입니다.
+ * 응답 지연 분포와 오류(500), 무응답(타임아웃), 잘린 JSON 비율을 {@link Behavior} 로 지정하며,
+ * 요청마다 "시드 + 요청 번호" 로 난수를 만들므로 같은 설정이면 n 번째 요청의 지연과 결과가 항상 같습니다.
+ * 스트리밍 경로는 본문을 chunk 단위로 나눠 조금씩 흘려보냅니다.
+ *
+ * <pre>{@code
+ * try (AiBackendSimulator simulator = AiBackendSimulator.start(0, Behavior.healthy()
+ *         .withLatency(LatencyDistribution.logNormal(Duration.ofMillis(300), Duration.ofSeconds(2)))
+ *         .withFaults(0.01, 0.001, 0.005))) {
+ *     String url = simulator.url();
+ * }
+ * }</pre>
+ */
+public final class AiBackendSimulator implements AutoCloseable {
+
+    public static final String GENERATE_PATH = "/generate-template";
+    public static final String STREAM_PATH = "/generate-template/stream";
+
+    /** 정상 응답 본문 (AI 서버 응답과 같은 형식) */
+    public static final String TEMPLATE_JSON = "{\"template\":{\"title\":\"[시뮬레이터 안내]\","
+        + "\"content\":\"안녕하세요, #{고객명}님.\\n요청하신 안내 메시지입니다.\\n\\n문의: #{연락처}\","
+        + "\"buttons\":[{\"type\":\"WL\",\"text\":\"자세히 보기\",\"link\":\"https://example.com\"}],"
+        + "\"variables\":[{\"key\":\"#{고객명}\",\"sampleValue\":\"홍길동\"},"
+        + "{\"key\":\"#{연락처}\",\"sampleValue\":\"010-1234-5678\"}]}}";
+
+    private static final byte[] TEMPLATE_BYTES = TEMPLATE_JSON.getBytes(StandardCharsets.UTF_8);
+    // 무응답 요청은 클라이언트가 끊거나 시뮬레이터가 닫힐 때까지 붙잡아 둡니다.
+    private static final Duration HANG_DURATION = Duration.ofMinutes(10);
+
+    /** 요청 하나의 응답 지연 시간 분포 */
+    @FunctionalInterface
+    public interface LatencyDistribution {
+
+        long sampleNanos(SplittableRandom random);
+
+        static LatencyDistribution none() {
+            return random -> 0;
+        }
+
+        static LatencyDistribution fixed(Duration latency) {
+            long nanos = latency.toNanos();
+            return random -> nanos;
+        }
+
+        static LatencyDistribution uniform(Duration min, Duration max) {
+            long minNanos = min.toNanos();
+            long maxNanos = max.toNanos();
+            return random -> minNanos + (long) (random.nextDouble() * (maxNanos - minNanos));
+        }
+
+        /**
+         * 로그 정규 분포. 중앙값과 p99 를 지정하면 긴 꼬리를 가진 실제 모델 서버 지연과 비슷한 분포가 됩니다.
+         */
+        static LatencyDistribution logNormal(Duration median, Duration p99) {
+            double mu = Math.log(median.toNanos());
+            // 표준 정규 분포의 99 백분위 z = 2.326
+            double sigma = Math.log((double) p99.toNanos() / median.toNanos()) / 2.326;
+            return random -> (long) Math.exp(mu + sigma * nextGaussian(random));
+        }
+
+        private static double nextGaussian(SplittableRandom random) {
+            // Box-Muller 변환
+            double u1 = 1.0 - random.nextDouble();
+            double u2 = random.nextDouble();
+            return Math.sqrt(-2 * Math.log(u1)) * Math.cos(2 * Math.PI * u2);
+        }
+    }
+
+    /**
+     * 시뮬레이터 동작 설정. 오류·무응답·잘린 JSON 비율의 합은 1 이하여야 합니다.
+     */
+    public record Behavior(long seed,
+                           LatencyDistribution latency,
+                           double errorRate,
+                           double timeoutRate,
+                           double truncatedRate,
+                           int streamChunkSize,
+                           Duration streamChunkDelay) {
+
+        public static Behavior healthy() {
+            return new Behavior(42, LatencyDistribution.none(), 0, 0, 0, 64, Duration.ofMillis(20));
+        }
+
+        public Behavior withSeed(long seed) {
+            return new Behavior(seed, latency, errorRate, timeoutRate, truncatedRate, streamChunkSize, streamChunkDelay);
+        }
+
+        public Behavior withLatency(LatencyDistribution latency) {
+            return new Behavior(seed, latency, errorRate, timeoutRate, truncatedRate, streamChunkSize, streamChunkDelay);
+        }
+
+        public Behavior withFaults(double errorRate, double timeoutRate, double truncatedRate) {
+            if (errorRate + timeoutRate + truncatedRate > 1) {
+                throw new IllegalArgumentException("Fault rates must not exceed 1 in total");
+            }
+            return new Behavior(seed, latency, errorRate, timeoutRate, truncatedRate, streamChunkSize, streamChunkDelay);
+        }
+
+        public Behavior withStreaming(int chunkSize, Duration chunkDelay) {
+            return new Behavior(seed, latency, errorRate, timeoutRate, truncatedRate, chunkSize, chunkDelay);
+        }
+    }
+
+    private enum Outcome { SUCCESS, ERROR, TIMEOUT, TRUNCATED }
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong requests = new AtomicLong();
+    private volatile Behavior behavior;
+
+    private AiBackendSimulator(int port, Behavior behavior) throws IOException {
+        this.behavior = behavior;
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 1024);
+        server.setExecutor(executor);
+        // 더 긴 경로가 먼저 일치하므로 스트리밍 경로를 따로 등록합니다.
+        server.createContext(STREAM_PATH, exchange -> handle(exchange, true));
+        server.createContext(GENERATE_PATH, exchange -> handle(exchange, false));
+        server.start();
+    }
+
+    /**
+     * @param port 0 이면 빈 포트를 사용합니다.
+     */
+    public static AiBackendSimulator start(int port, Behavior behavior) throws IOException {
+        return new AiBackendSimulator(port, behavior);
+    }
+
+    /** 이후 요청부터 적용할 동작을 바꿉니다. 요청 번호는 이어집니다. */
+    public void behavior(Behavior behavior) {
+        this.behavior = behavior;
+    }
+
+    public int port() {
+        return server.getAddress().getPort();
+    }
+
+    public String url() {
+        return "http://localhost:" + port() + GENERATE_PATH;
+    }
+
+    public String streamUrl() {
+        return "http://localhost:" + port() + STREAM_PATH;
+    }
+
+    /** 지금까지 받은 요청 수 */
+    public long requestCount() {
+        return requests.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        // 무응답으로 붙잡아 둔 요청 스레드를 깨워 정리합니다.
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange, boolean streaming) throws IOException {
+        try (exchange) {
+            requests.incrementAndGet();
+            exchange.getRequestBody().readAllBytes();
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+
+            Behavior current = behavior;
+            SplittableRandom random = new SplittableRandom(current.seed() ^ mix(sequence.getAndIncrement()));
+            Outcome outcome = outcome(current, random.nextDouble());
+            sleep(current.latency().sampleNanos(random));
+
+            switch (outcome) {
+                case ERROR -> {
+                    byte[] body = "{\"detail\":\"simulated model server error\"}".getBytes(StandardCharsets.UTF_8);
+                    exchange.getResponseHeaders().set("Content-Type", "application/json");
+                    exchange.sendResponseHeaders(500, body.length);
+                    exchange.getResponseBody().write(body);
+                }
+                case TIMEOUT -> sleep(HANG_DURATION.toNanos());
+                case TRUNCATED -> respond(exchange, current, streaming, TEMPLATE_BYTES.length / 2);
+                case SUCCESS -> respond(exchange, current, streaming, TEMPLATE_BYTES.length);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // 잘린 응답은 Content-Length 도 잘린 길이로 보내므로 HTTP 수준에서는 정상 응답이고 JSON 만 깨져 있습니다.
+    private static void respond(HttpExchange exchange, Behavior behavior, boolean streaming, int length)
+            throws IOException, InterruptedException {
+        exchange.getResponseHeaders().set("Content-Type", streaming ? "text/plain; charset=utf-8" : "application/json");
+        if (!streaming) {
+            exchange.sendResponseHeaders(200, length);
+            exchange.getResponseBody().write(TEMPLATE_BYTES, 0, length);
+            return;
+        }
+
+        exchange.sendResponseHeaders(200, 0);
+        OutputStream body = exchange.getResponseBody();
+        for (int offset = 0; offset < length; offset += behavior.streamChunkSize()) {
+            if (offset > 0) {
+                sleep(behavior.streamChunkDelay().toNanos());
+            }
+            body.write(TEMPLATE_BYTES, offset, Math.min(behavior.streamChunkSize(), length - offset));
+            body.flush();
+        }
+    }
+
+    private static Outcome outcome(Behavior behavior, double draw) {
+        if (draw < behavior.errorRate()) {
+            return Outcome.ERROR;
+        }
+        if (draw < behavior.errorRate() + behavior.timeoutRate()) {
+            return Outcome.TIMEOUT;
+        }
+        if (draw < behavior.errorRate() + behavior.timeoutRate() + behavior.truncatedRate()) {
+            return Outcome.TRUNCATED;
+        }
+        return Outcome.SUCCESS;
+    }
+
+    private static void sleep(long nanos) throws InterruptedException {
+        if (nanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        }
+    }
+
+    // 연속된 요청 번호가 비슷한 시드가 되지 않도록 섞습니다 (SplitMix64).
+    private static long mix(long value) {
+        long z = value + 0x9e3779b97f4a7c15L;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,63 @@
+package com.ezlevup.jober.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AhoCorasickMatcherTest {
+
+    private AhoCorasickMatcher matcher(Object... keywordPriorities) {
+        Map<String, Integer> table = new LinkedHashMap<>();
+        for (int i = 0; i < keywordPriorities.length; i += 2) {
+            table.put((String) keywordPriorities[i], (Integer) keywordPriorities[i + 1]);
+        }
+        return new AhoCorasickMatcher(table);
+    }
+
+    @Test
+    @DisplayName("키워드가 포함된 경우 해당 우선순위 반환")
+    void match_singleKeyword() {
+        AhoCorasickMatcher matcher = matcher("과제", 0, "수업", 1);
+
+        assertThat(matcher.match("학부모님께 과제 안내 템플릿 생성")).isEqualTo(0);
+        assertThat(matcher.match("수업 일정 변경 안내")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("여러 키워드가 포함된 경우 가장 높은 우선순위 반환")
+    void match_multipleKeywords_highestPriorityWins() {
+        AhoCorasickMatcher matcher = matcher("과제", 0, "수업", 1);
+
+        assertThat(matcher.match("수업 시간에 나간 과제 안내")).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("실패 링크를 따라 겹치는 키워드 탐지")
+    void match_overlappingKeywordsViaFailureLinks() {
+        AhoCorasickMatcher matcher = matcher("abcd", 0, "bc", 1);
+
+        assertThat(matcher.match("xabcx")).isEqualTo(1);
+        assertThat(matcher.match("xabcdx")).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("대소문자 구분 없이 일치")
+    void match_caseInsensitive() {
+        AhoCorasickMatcher matcher = matcher("Event", 0);
+
+        assertThat(matcher.match("NEW EVENT NOTICE")).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("일치하는 키워드가 없거나 입력이 null 이면 NO_MATCH")
+    void match_noMatch() {
+        AhoCorasickMatcher matcher = matcher("과제", 0);
+
+        assertThat(matcher.match("일반 공지사항")).isEqualTo(AhoCorasickMatcher.NO_MATCH);
+        assertThat(matcher.match(null)).isEqualTo(AhoCorasickMatcher.NO_MATCH);
+    }
+}
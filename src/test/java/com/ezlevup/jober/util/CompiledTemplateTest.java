@@ -0,0 +1,45 @@
+package com.ezlevup.jober.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompiledTemplateTest {
+
+    @Test
+    @DisplayName("모든 변수 치환")
+    void render_allVariables() {
+        // given
+        CompiledTemplate template = CompiledTemplate.compile("안녕하세요, #{고객명}님. #{고객명}님의 연락처는 #{연락처}입니다.");
+
+        // when
+        String rendered = template.render(Map.of("고객명", "홍길동", "연락처", "010-1234-5678"));
+
+        // then
+        assertThat(rendered).isEqualTo("안녕하세요, 홍길동님. 홍길동님의 연락처는 010-1234-5678입니다.");
+        assertThat(template.getVariableNames()).containsExactly("고객명", "연락처");
+    }
+
+    @Test
+    @DisplayName("값이 없는 변수는 그대로 남기고 누락 목록으로 반환")
+    void render_missingVariableKept() {
+        // given
+        CompiledTemplate template = CompiledTemplate.compile("#{고객명}님, #{내용} 안내드립니다.");
+        Map<String, String> variables = Map.of("고객명", "홍길동");
+
+        // when & then
+        assertThat(template.render(variables)).isEqualTo("홍길동님, #{내용} 안내드립니다.");
+        assertThat(template.missingVariables(variables)).containsExactly("내용");
+    }
+
+    @Test
+    @DisplayName("닫히지 않은 자리표시자와 변수 없는 문자열은 그대로 유지")
+    void render_literalOnly() {
+        assertThat(CompiledTemplate.compile("가격: 1,000원 #{미완성").render(Map.of())).isEqualTo("가격: 1,000원 #{미완성");
+        assertThat(CompiledTemplate.compile("#{a}#{b}").render(Map.of("a", "1", "b", "2"))).isEqualTo("12");
+        assertThat(CompiledTemplate.compile(null).render(Map.of())).isEmpty();
+    }
+}
@@ -0,0 +1,75 @@
+package com.ezlevup.jober.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvReaderTest {
+
+    @Test
+    @DisplayName("따옴표 필드, 이스케이프, 줄바꿈, BOM 처리")
+    void readRecord_quotedFields() throws IOException {
+        // given
+        String csv = "\uFEFF고객명,연락처\r\n\"홍, 길동\",\"010\"\"1234\"\"\"\n\n\"여러\n줄\",\n";
+        CsvReader reader = new CsvReader(new StringReader(csv), 100, 10);
+
+        // when & then
+        assertThat(reader.readRecord()).containsExactly("고객명", "연락처");
+        assertThat(reader.readRecord()).containsExactly("홍, 길동", "010\"1234\"");
+        assertThat(reader.readRecord()).containsExactly("여러\n줄", "");
+        assertThat(reader.readRecord()).isNull();
+    }
+
+    @Test
+    @DisplayName("마지막 줄에 줄바꿈이 없어도 레코드로 읽음")
+    void readRecord_lastLineWithoutLineBreak() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("a,b\nc,d"), 100, 10);
+
+        assertThat(reader.readRecord()).isEqualTo(List.of("a", "b"));
+        assertThat(reader.readRecord()).isEqualTo(List.of("c", "d"));
+        assertThat(reader.readRecord()).isNull();
+    }
+
+    @Test
+    @DisplayName("닫히지 않은 따옴표와 최대 길이를 넘는 필드는 형식 오류")
+    void readRecord_malformed() {
+        assertThatThrownBy(() -> new CsvReader(new StringReader("\"abc\n"), 100, 10).readRecord())
+            .isInstanceOf(CsvReader.CsvFormatException.class);
+        assertThatThrownBy(() -> new CsvReader(new StringReader("abcdef\n"), 5, 10).readRecord())
+            .isInstanceOf(CsvReader.CsvFormatException.class);
+    }
+
+    @Test
+    @DisplayName("너무 긴 필드나 너무 많은 필드가 있는 레코드만 건너뛰고 다음 레코드를 계속 읽음")
+    void readRecord_skipsOversizedRecord() throws IOException {
+        // given
+        String csv = "a,b\n\"abc\ndef\"\"\",x\n1,2,3,4\nd,e\n";
+        CsvReader reader = new CsvReader(new StringReader(csv), 5, 3);
+
+        // when & then
+        assertThat(reader.readRecord()).containsExactly("a", "b");
+        assertThatThrownBy(reader::readRecord)
+            .isInstanceOf(CsvReader.CsvRecordException.class)
+            .hasMessageContaining("5 characters");
+        assertThatThrownBy(reader::readRecord)
+            .isInstanceOf(CsvReader.CsvRecordException.class)
+            .hasMessageContaining("3 fields");
+        assertThat(reader.readRecord()).containsExactly("d", "e");
+        assertThat(reader.readRecord()).isNull();
+    }
+
+    @Test
+    @DisplayName("닫히지 않은 따옴표는 레코드 단위로 복구할 수 없는 오류")
+    void readRecord_unterminatedQuoteIsFatal() {
+        CsvReader reader = new CsvReader(new StringReader("\"abc\nd\n"), 100, 10);
+        assertThatThrownBy(reader::readRecord)
+            .isInstanceOf(CsvReader.CsvFormatException.class)
+            .isNotInstanceOf(CsvReader.CsvRecordException.class);
+    }
+}
@@ -0,0 +1,88 @@
+package com.ezlevup.jober.util;
+
+import com.ezlevup.jober.security.JwtKeyRing;
+import com.ezlevup.jober.security.JwtPrincipal;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtUtilTest {
+
+    private static final String SECRET = "testSecretKeyForJWTTokenGenerationThatShouldBeAtLeast32Characters";
+
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = createJwtUtil(SECRET, 60_000L);
+    }
+
+    private JwtUtil createJwtUtil(String secret, long expiration) {
+        JwtUtil util = new JwtUtil(new JwtKeyRing(secret, "", true));
+        ReflectionTestUtils.setField(util, "expiration", expiration);
+        util.init();
+        return util;
+    }
+
+    @Test
+    @DisplayName("유효한 토큰 한 번 파싱으로 이메일과 사용자 ID 추출")
+    void parseClaims_validToken() {
+        // given
+        String token = jwtUtil.generateToken("test@example.com", 1L);
+
+        // when
+        Optional<Claims> claims = jwtUtil.parseClaims(token);
+
+        // then
+        assertThat(claims).isPresent();
+        assertThat(claims.get().getSubject()).isEqualTo("test@example.com");
+        assertThat(claims.get().get("userId", Long.class)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("다른 키로 서명된 토큰과 형식이 잘못된 토큰은 빈 값")
+    void parseClaims_invalidToken() {
+        // given
+        String foreignToken = createJwtUtil("anotherSecretKeyForJWTTokenGenerationAtLeast32Characters", 60_000L)
+            .generateToken("test@example.com", 1L);
+
+        // when & then
+        assertThat(jwtUtil.parseClaims(foreignToken)).isEmpty();
+        assertThat(jwtUtil.parseClaims("not-a-jwt")).isEmpty();
+        assertThat(jwtUtil.parseClaims("")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 빈 값")
+    void parseClaims_expiredToken() {
+        // given
+        String expiredToken = createJwtUtil(SECRET, -1_000L).generateToken("test@example.com", 1L);
+
+        // when & then
+        assertThat(jwtUtil.parseClaims(expiredToken)).isEmpty();
+        assertThat(jwtUtil.validateToken(expiredToken)).isFalse();
+    }
+
+    @Test
+    @DisplayName("닉네임과 역할 클레임으로 인증 주체 생성")
+    void generateToken_withProfileClaims() {
+        // given
+        String token = jwtUtil.generateToken("test@example.com", 1L, "테스터", List.of("ADMIN"));
+
+        // when
+        JwtPrincipal principal = JwtPrincipal.from(jwtUtil.parseClaims(token).orElseThrow());
+
+        // then
+        assertThat(principal.userId()).isEqualTo(1L);
+        assertThat(principal.email()).isEqualTo("test@example.com");
+        assertThat(principal.nickname()).isEqualTo("테스터");
+        assertThat(principal.roles()).containsExactly("ADMIN");
+    }
+}
@@ -0,0 +1,55 @@
+package com.ezlevup.jober.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+
+    @Test
+    @DisplayName("버킷 크기만큼은 한꺼번에 허용하고 이후 요청은 대기 시간과 함께 거절")
+    void tryAcquire_allowsBurstThenRejects() {
+        // given: 초당 1개, 버킷 3개
+        RateLimiter limiter = new RateLimiter(1, Duration.ofSeconds(1), 3, 100, clock::get);
+
+        // when & then
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.tryAcquire("ip:127.0.0.1")).isZero();
+        }
+        assertThat(limiter.tryAcquire("ip:127.0.0.1")).isEqualTo(TimeUnit.SECONDS.toNanos(1));
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 허용량이 다시 채워짐")
+    void tryAcquire_refillsOverTime() {
+        // given
+        RateLimiter limiter = new RateLimiter(1, Duration.ofSeconds(1), 1, 100, clock::get);
+        assertThat(limiter.tryAcquire("user:1")).isZero();
+        assertThat(limiter.tryAcquire("user:1")).isPositive();
+
+        // when
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+
+        // then
+        assertThat(limiter.tryAcquire("user:1")).isZero();
+    }
+
+    @Test
+    @DisplayName("키마다 허용량을 따로 계산")
+    void tryAcquire_isolatesKeys() {
+        // given
+        RateLimiter limiter = new RateLimiter(1, Duration.ofMinutes(1), 1, 100, clock::get);
+
+        // when & then
+        assertThat(limiter.tryAcquire("user:1")).isZero();
+        assertThat(limiter.tryAcquire("user:1")).isPositive();
+        assertThat(limiter.tryAcquire("user:2")).isZero();
+    }
+}
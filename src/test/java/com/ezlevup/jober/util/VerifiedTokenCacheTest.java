@@ -0,0 +1,58 @@
+package com.ezlevup.jober.util;
+
+import com.ezlevup.jober.security.JwtKeyRing;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VerifiedTokenCacheTest {
+
+    private JwtUtil jwtUtil;
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil(new JwtKeyRing("testSecretKeyForJWTTokenGenerationThatShouldBeAtLeast32Characters", "", true));
+        ReflectionTestUtils.setField(jwtUtil, "expiration", 60_000L);
+        jwtUtil.init();
+        verifiedTokenCache = new VerifiedTokenCache(jwtUtil, true, DataSize.ofMegabytes(1));
+    }
+
+    @Test
+    @DisplayName("같은 토큰을 다시 검증하면 캐시 적중")
+    void verify_sameToken_hit() {
+        // given
+        String token = jwtUtil.generateToken("test@example.com", 1L);
+
+        // when
+        Optional<Claims> first = verifiedTokenCache.verify(token);
+        Optional<Claims> second = verifiedTokenCache.verify(token);
+
+        // then
+        assertThat(first).isPresent();
+        assertThat(second).isPresent();
+        assertThat(second.get().getSubject()).isEqualTo("test@example.com");
+        assertThat(verifiedTokenCache.stats().hitCount()).isEqualTo(1);
+        assertThat(verifiedTokenCache.stats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("검증에 실패한 토큰은 캐시하지 않음")
+    void verify_invalidToken_notCached() {
+        // given
+        String token = jwtUtil.generateToken("test@example.com", 1L);
+        String tampered = token.substring(0, token.length() - 2) + "xx";
+
+        // when & then
+        assertThat(verifiedTokenCache.verify(tampered)).isEmpty();
+        assertThat(verifiedTokenCache.verify(tampered)).isEmpty();
+        assertThat(verifiedTokenCache.estimatedSize()).isZero();
+    }
+}